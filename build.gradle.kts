@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.5.6"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "com"
@@ -42,6 +43,16 @@ dependencies {
     runtimeOnly("io.jsonwebtoken:jjwt-impl:0.11.5")
     runtimeOnly("io.jsonwebtoken:jjwt-jackson:0.11.5")
 
+    // cache
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
+    // metrics (/actuator/prometheus)
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
+
+    // redis (custom.refreshToken.store=redis 일 때만 사용)
+    implementation("org.springframework.boot:spring-boot-starter-data-redis")
+
     compileOnly("org.projectlombok:lombok")
 
     developmentOnly("org.springframework.boot:spring-boot-devtools")
@@ -57,8 +68,27 @@ dependencies {
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("org.springframework.security:spring-security-test")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+    // benchmark (src/jmh)
+    jmhImplementation("org.springframework:spring-test")
 }
 
 tasks.withType<Test> {
     useJUnitPlatform()
+    // 가상 스레드가 carrier 에 고정(pinning)되면 스택 출력
+    jvmArgs("-Djdk.tracePinnedThreads=short")
+}
+
+tasks.named<org.springframework.boot.gradle.tasks.run.BootRun>("bootRun") {
+    jvmArgs("-Djdk.tracePinnedThreads=short")
+}
+
+// ./gradlew jmh -Pjmh.includes=JwtUtilBenchmark
+jmh {
+    warmupIterations = 2
+    iterations = 3
+    fork = 1
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    (project.findProperty("jmh.includes") as String?)?.let { includes = listOf(it) }
 }
@@ -2,7 +2,8 @@
 -- 이 스크립트는 모든 테이블을 생성하고 관계를 설정합니다.
 
 -- 기존 테이블이 존재할 경우 삭제하여 초기 상태를 보장합니다.
-DROP TABLE IF EXISTS sub_goal_completions, goal_schedule_days, summary, goals_sub, goals, profiles, users CASCADE;
+DROP TABLE IF EXISTS goal_daily_stats, goal_streaks, sub_goal_completions, goal_schedule_days, summary, goals_sub, goals, refresh_tokens, profiles, users CASCADE;
+DROP SEQUENCE IF EXISTS sub_goal_completions_id_seq;
 
 -- =============================================
 -- 1. 테이블 생성
@@ -15,7 +16,9 @@ CREATE TABLE users (
                        nickname VARCHAR(50) NOT NULL,
                        oauth_id VARCHAR(100) UNIQUE,
                        created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
-                       role VARCHAR(20) NOT NULL DEFAULT 'USER'
+                       role VARCHAR(20) NOT NULL DEFAULT 'USER',
+                       version BIGINT NOT NULL DEFAULT 0,
+                       goal_revision BIGINT NOT NULL DEFAULT 0
 );
 
 -- 사용자 프로필 정보 (users와 1:1 관계)
@@ -41,7 +44,12 @@ CREATE TABLE goals (
                        id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
                        user_id UUID NOT NULL,
                        title VARCHAR(255) NOT NULL,
-                       created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
+                       created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    -- 목표, 서브 목표, 달성 기록이 바뀔 때마다 증가 (조회 API ETag)
+                       version BIGINT NOT NULL DEFAULT 0,
+    -- goal_schedule_days 의 7비트 마스크 사본 (bit 0: 일요일 ... bit 6: 토요일, 0 이면 매일)
+                       schedule_mask SMALLINT NOT NULL DEFAULT 0,
+                       CONSTRAINT check_schedule_mask CHECK (schedule_mask >= 0 AND schedule_mask <= 127)
 );
 
 -- 대 목표에 속한 서브 목표
@@ -53,10 +61,15 @@ CREATE TABLE goals_sub (
 );
 
 -- 서브 목표 달성 기록
+-- ID 는 시퀀스를 50 단위로 증가시켜 애플리케이션이 한 번에 50개씩 할당 (JDBC 배치 INSERT 용)
+CREATE SEQUENCE sub_goal_completions_id_seq INCREMENT BY 50;
+
 CREATE TABLE sub_goal_completions (
-                                      id BIGINT PRIMARY KEY GENERATED ALWAYS AS IDENTITY,
+                                      id BIGINT PRIMARY KEY DEFAULT nextval('sub_goal_completions_id_seq'),
                                       sub_goal_id UUID NOT NULL,
-                                      completed_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
+                                      completed_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+                                      client_event_id VARCHAR(64),
+                                      CONSTRAINT uk_sub_goal_completions_client_event UNIQUE (sub_goal_id, client_event_id)
 );
 
 -- 대 목표에 대한 요약 (goals와 1:1 관계)
@@ -64,7 +77,12 @@ CREATE TABLE summary (
                          id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
                          goal_id UUID UNIQUE NOT NULL,
                          content TEXT NOT NULL,
-                         created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
+    -- 요약 생성 시점의 달성 건수 (goal_daily_stats 합계와 다르면 다시 생성)
+                         completion_count BIGINT NOT NULL DEFAULT 0,
+    -- 요약 생성 기준 날짜 (연속 달성/최근 N주 문장이 날짜에 따라 바뀌므로 날짜가 지나면 다시 생성)
+                         generated_on DATE NOT NULL,
+                         created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+                         updated_at TIMESTAMP WITH TIME ZONE
 );
 
 -- 대 목표 수행 요일 설정
@@ -76,6 +94,23 @@ CREATE TABLE goal_schedule_days (
                                     PRIMARY KEY (goal_id, day_of_week)
 );
 
+-- 목표별 / 날짜별 달성 건수 (sub_goal_completions 집계, 달성 기록 저장 시 증분 갱신)
+CREATE TABLE goal_daily_stats (
+                                  goal_id UUID NOT NULL,
+                                  stat_date DATE NOT NULL,
+                                  completions INT NOT NULL,
+                                  PRIMARY KEY (goal_id, stat_date)
+);
+
+-- 목표별 연속 달성 기록 (수행 요일 기준)
+CREATE TABLE goal_streaks (
+                              goal_id UUID PRIMARY KEY,
+                              current_streak INT NOT NULL,
+                              best_streak INT NOT NULL,
+                              last_completed_date DATE,
+                              version BIGINT
+);
+
 -- =============================================
 -- 2. 외래 키(Foreign Key) 제약 조건 설정
 -- =============================================
@@ -94,6 +129,27 @@ ALTER TABLE summary ADD CONSTRAINT fk_summary_goals FOREIGN KEY (goal_id) REFERE
 
 ALTER TABLE goal_schedule_days ADD CONSTRAINT fk_schedule_goals FOREIGN KEY (goal_id) REFERENCES goals(id) ON DELETE CASCADE;
 
+ALTER TABLE goal_daily_stats ADD CONSTRAINT fk_daily_stats_goals FOREIGN KEY (goal_id) REFERENCES goals(id) ON DELETE CASCADE;
+
+ALTER TABLE goal_streaks ADD CONSTRAINT fk_streaks_goals FOREIGN KEY (goal_id) REFERENCES goals(id) ON DELETE CASCADE;
+
+
+-- =============================================
+-- 3. 인덱스
+-- =============================================
+
+-- 리프레시 토큰: 사용자별 폐기, 만료/Idle 토큰 청크 정리
+CREATE INDEX idx_refresh_tokens_user_id ON refresh_tokens (user_id);
+CREATE INDEX idx_refresh_tokens_expires_at ON refresh_tokens (expires_at);
+CREATE INDEX idx_refresh_tokens_last_used_at ON refresh_tokens (last_used_at);
+
+-- 목표 트리 조회: 사용자별 목표, 목표별 서브 목표
+CREATE INDEX idx_goals_user_id ON goals (user_id);
+CREATE INDEX idx_goals_sub_goal_id ON goals_sub (goal_id);
+
+-- 달성 이력: 서브 목표별 시간 범위 / 키셋 페이지네이션 (completed_at, id)
+CREATE INDEX idx_sub_goal_completions_sub_goal_completed_at ON sub_goal_completions (sub_goal_id, completed_at);
+
 
 -- =============================================
 -- 4. 테스트 데이터 삽입
@@ -202,4 +258,11 @@ INSERT INTO goals_sub (id, goal_id, title) VALUES ('3c3c3c3c-3c3c-3c3c-3c3c-3c3c
 INSERT INTO goal_schedule_days (goal_id, day_of_week) VALUES
     ('10101010-1010-1010-1010-101010101010', 6), ('10101010-1010-1010-1010-101010101010', 0);
 
+-- 수행 요일 마스크를 goal_schedule_days 와 맞춤 (기존 데이터 이전 시에도 같은 문장 사용)
+UPDATE goals g SET schedule_mask = (
+    SELECT COALESCE(SUM(1 << d.day_of_week), 0) FROM goal_schedule_days d WHERE d.goal_id = g.id
+);
+
+-- 위 달성 기록의 집계(goal_daily_stats, goal_streaks)는 custom.goalStats.backfill.onStartup=true 로 기동하면 채워집니다.
+
 -- 스크립트 종료
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.back.global.jwt;
+
+import com.back.global.metrics.AuthMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 액세스 토큰 발급/검증/클레임 추출 비용 측정
+ * ./gradlew jmh -Pjmh.includes=JwtUtilBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtUtilBenchmark {
+
+    static final String SECRET = "benchmark-secret-key-for-jwt-token-generation-and-validation";
+
+    private final UUID userId = UUID.randomUUID();
+    private JwtUtil jwtUtil;
+    private JwtUtil cachedJwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = newJwtUtil(false);
+        cachedJwtUtil = newJwtUtil(true);
+        token = jwtUtil.generateAccessToken(userId, "bench@example.com", "벤치마크");
+    }
+
+    static JwtUtil newJwtUtil(boolean cacheEnabled) {
+        return new JwtUtil(SECRET, 60 * 15, "localhost", new AccessTokenCache(cacheEnabled, 10_000),
+                new AuthMetrics(new SimpleMeterRegistry()));
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtUtil.generateAccessToken(userId, "bench@example.com", "벤치마크");
+    }
+
+    @Benchmark
+    public AccessTokenPrincipal parseAccessToken() {
+        return jwtUtil.parseAccessToken(token);
+    }
+
+    @Benchmark
+    public AccessTokenPrincipal parseAccessTokenCached() {
+        return cachedJwtUtil.parseAccessToken(token);
+    }
+
+    // 검증 후 클레임을 하나씩 꺼내는 방식 (토큰을 4번 파싱)
+    @Benchmark
+    public Object[] validateThenExtractClaims() {
+        if (!jwtUtil.validateAccessToken(token)) return null;
+        return new Object[]{
+                jwtUtil.getUserIdFromToken(token),
+                jwtUtil.getEmailFromToken(token),
+                jwtUtil.getNicknameFromToken(token)
+        };
+    }
+}
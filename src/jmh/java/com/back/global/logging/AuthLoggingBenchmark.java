@@ -0,0 +1,124 @@
+package com.back.global.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.FileAppender;
+import com.back.global.jwt.AccessTokenCache;
+import com.back.global.jwt.JwtUtil;
+import com.back.global.jwt.RequestTokens;
+import com.back.global.metrics.AuthMetrics;
+import com.back.global.security.CustomAuthenticationFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.logging.logback.StructuredLogEncoder;
+import org.springframework.core.env.Environment;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 필터 처리량: 로그 꺼짐 / 동기 JSON / 비동기 JSON / 비동기 + 샘플링(1%)
+ * 인증 경로 로거를 DEBUG 로 두고 (요청당 로그 6줄) 실제 파일에 logstash JSON 으로 기록
+ * ./gradlew jmh -Pjmh.includes=AuthLoggingBenchmark
+ * (async 는 neverBlock 이라 큐가 가득 차면 버리므로, 처리량과 함께 파일 크기로 실제 기록량도 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class AuthLoggingBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-jwt-token-generation-and-validation";
+
+    @Param({"off", "sync", "async", "asyncSampled"})
+    public String mode;
+
+    private final FilterChain chain = (request, response) -> { };
+
+    private LoggerContext context;
+    private File logFile;
+    private CustomAuthenticationFilter filter;
+    private String token;
+
+    @State(Scope.Thread)
+    public static class Request {
+        MockHttpServletRequest request;
+        MockHttpServletResponse response;
+
+        @Setup
+        public void setUp(AuthLoggingBenchmark benchmark) {
+            request = new MockHttpServletRequest("GET", "/user/auth/me");
+            request.addHeader("Authorization", "Bearer " + benchmark.token);
+            response = new MockHttpServletResponse();
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        AuthMetrics authMetrics = new AuthMetrics(new SimpleMeterRegistry());
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 60 * 15, "localhost", new AccessTokenCache(true, 10_000), authMetrics);
+        token = jwtUtil.generateAccessToken(UUID.randomUUID(), "bench@example.com", "벤치마크");
+        filter = new CustomAuthenticationFilter(jwtUtil, authMetrics);
+
+        logFile = Files.createTempFile("auth-logging", ".json").toFile();
+        context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+        context.putObject(Environment.class.getName(), new MockEnvironment()
+                .withProperty("spring.application.name", "back-java")
+                .withProperty("logging.structured.json.customizer", RedactingJsonMembersCustomizer.class.getName()));
+
+        StructuredLogEncoder encoder = new StructuredLogEncoder();
+        encoder.setContext(context);
+        encoder.setFormat("logstash");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> appender = new FileAppender<>();
+        appender.setContext(context);
+        appender.setName("FILE");
+        appender.setFile(logFile.getAbsolutePath());
+        appender.setEncoder(encoder);
+        appender.start();
+
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+        context.getLogger("com.back.global.security").setLevel(mode.equals("off") ? Level.WARN : Level.DEBUG);
+
+        if (mode.startsWith("async")) {
+            LoggingConfigurer.wrapAsync(context, 8192, true);
+        }
+        if (mode.equals("asyncSampled")) {
+            LoggingConfigurer.installSampling(context, Map.of("com.back.global.security", 0.01));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.stop(); // 비동기 큐 비우고 닫기
+        System.out.printf("%n[%s] log file: %,d bytes%n", mode, logFile.length());
+        Files.deleteIfExists(logFile.toPath());
+        context.reset();
+    }
+
+    @Benchmark
+    public Object authenticate(Request state) throws ServletException, IOException {
+        filter.doFilter(state.request, state.response, chain);
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        state.request.removeAttribute(RequestTokens.class.getName());
+        return authentication;
+    }
+}
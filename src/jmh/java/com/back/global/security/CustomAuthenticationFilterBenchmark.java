@@ -0,0 +1,98 @@
+package com.back.global.security;
+
+import com.back.global.jwt.AccessTokenCache;
+import com.back.global.jwt.JwtUtil;
+import com.back.global.jwt.RequestTokens;
+import com.back.global.metrics.AuthMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 필터 전체 경로 (토큰 추출 → 검증 → SecurityContext 설정) 비용 측정
+ * 필터는 넘겨받은 요청에서 토큰을 읽음 (요청 하나에 고정된 Rq 를 공유하면 anonymous 도 쿠키 경로를 측정하게 됨)
+ * ./gradlew jmh -Pjmh.includes=CustomAuthenticationFilterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CustomAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-jwt-token-generation-and-validation";
+
+    @Param({"true", "false"})
+    public boolean tokenCache;
+
+    private final FilterChain chain = (request, response) -> { };
+
+    private CustomAuthenticationFilter filter;
+    private MockHttpServletRequest headerRequest;
+    private MockHttpServletRequest cookieRequest;
+    private MockHttpServletRequest anonymousRequest;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() throws ServletException, IOException {
+        AuthMetrics authMetrics = new AuthMetrics(new SimpleMeterRegistry());
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 60 * 15, "localhost", new AccessTokenCache(tokenCache, 10_000), authMetrics);
+        String token = jwtUtil.generateAccessToken(UUID.randomUUID(), "bench@example.com", "벤치마크");
+
+        headerRequest = new MockHttpServletRequest("GET", "/user/auth/me");
+        headerRequest.addHeader("Authorization", "Bearer " + token);
+
+        cookieRequest = new MockHttpServletRequest("GET", "/user/auth/me");
+        cookieRequest.setCookies(
+                new Cookie("JSESSIONID", "5F4C2A0E9B1D3C7A8E6F0B2D4C6A8E0F"),
+                new Cookie("refreshToken", "Qk9HVVMtUkVGUkVTSC1UT0tFTi1CRU5DSE1BUktJTkc"),
+                new Cookie("accessToken", token)
+        );
+
+        anonymousRequest = new MockHttpServletRequest("GET", "/user/auth/me");
+        response = new MockHttpServletResponse();
+
+        filter = new CustomAuthenticationFilter(jwtUtil, authMetrics);
+
+        // 각 벤치마크가 의도한 경로를 타는지 확인 (토큰 없는 요청은 인증되지 않아야 함)
+        if (run(headerRequest) == null || run(cookieRequest) == null || run(anonymousRequest) != null) {
+            throw new IllegalStateException("요청별 인증 경로가 예상과 다릅니다.");
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Object bearerHeader() throws ServletException, IOException {
+        return run(headerRequest);
+    }
+
+    @Benchmark
+    public Object cookie() throws ServletException, IOException {
+        return run(cookieRequest);
+    }
+
+    @Benchmark
+    public Object anonymous() throws ServletException, IOException {
+        return run(anonymousRequest);
+    }
+
+    private Object run(MockHttpServletRequest request) throws ServletException, IOException {
+        filter.doFilter(request, response, chain);
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        // 매 호출을 새 요청처럼 (요청 속성에 저장된 토큰 홀더 제거)
+        request.removeAttribute(RequestTokens.class.getName());
+        return authentication;
+    }
+}
@@ -0,0 +1,147 @@
+package com.back.domain.goal.controller;
+
+import com.back.domain.goal.dto.GoalAgendaDto;
+import com.back.domain.goal.dto.GoalStatsDto;
+import com.back.domain.goal.dto.GoalTreeBulkReqDto;
+import com.back.domain.goal.dto.GoalTreeDto;
+import com.back.domain.goal.dto.GoalTreeReqDto;
+import com.back.domain.goal.service.GoalAgendaService;
+import com.back.domain.goal.service.GoalExportFormat;
+import com.back.domain.goal.service.GoalExportService;
+import com.back.domain.goal.service.GoalQueryService;
+import com.back.domain.goal.service.GoalStatsService;
+import com.back.domain.goal.service.GoalTreeService;
+import com.back.domain.user.entity.User;
+import com.back.global.exception.UnauthorizedException;
+import com.back.global.rq.Rq;
+import com.back.global.rsData.RsData;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Tag(name = "Goal", description = "목표 API")
+@RestController
+@RequestMapping("/goals")
+@RequiredArgsConstructor
+public class GoalController {
+
+    private final GoalStatsService goalStatsService;
+    private final GoalExportService goalExportService;
+    private final GoalAgendaService goalAgendaService;
+    private final GoalTreeService goalTreeService;
+    private final GoalQueryService goalQueryService;
+    private final Rq rq;
+
+    @Operation(summary = "목표 트리 일괄 생성", description = "여러 목표를 서브 목표, 수행 요일과 함께 한 번에 생성 (온보딩)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "생성된 목표 트리"),
+            @ApiResponse(responseCode = "400", description = "입력 오류 또는 최대 개수 초과"),
+            @ApiResponse(responseCode = "401", description = "로그인 필요")
+    })
+    @PostMapping("/tree")
+    public RsData<List<GoalTreeDto>> createTrees(@RequestBody GoalTreeBulkReqDto reqDto) {
+        User actor = rq.getActor();
+        if (actor == null) throw new UnauthorizedException();
+
+        return RsData.of(200, "목표가 생성되었습니다.", goalTreeService.createAll(actor.getId(), reqDto.getGoals()));
+    }
+
+    @Operation(summary = "목표 트리 교체", description = "목표 제목, 수행 요일, 서브 목표 목록을 요청 내용으로 교체 (바뀐 항목만 반영, 목록에 없는 서브 목표는 삭제)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "교체된 목표 트리"),
+            @ApiResponse(responseCode = "400", description = "입력 오류"),
+            @ApiResponse(responseCode = "401", description = "로그인 필요"),
+            @ApiResponse(responseCode = "404", description = "목표 없음")
+    })
+    @PutMapping("/{goalId}/tree")
+    public RsData<GoalTreeDto> replaceTree(@PathVariable UUID goalId, @RequestBody GoalTreeReqDto reqDto) {
+        User actor = rq.getActor();
+        if (actor == null) throw new UnauthorizedException();
+
+        return RsData.of(200, "목표가 수정되었습니다.", goalTreeService.replace(actor.getId(), goalId, reqDto));
+    }
+
+    @Operation(summary = "목표 삭제", description = "목표와 서브 목표, 달성 기록을 함께 삭제")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "삭제 완료"),
+            @ApiResponse(responseCode = "401", description = "로그인 필요"),
+            @ApiResponse(responseCode = "404", description = "목표 없음")
+    })
+    @DeleteMapping("/{goalId}")
+    public RsData<Void> deleteGoal(@PathVariable UUID goalId) {
+        User actor = rq.getActor();
+        if (actor == null) throw new UnauthorizedException();
+
+        goalTreeService.delete(actor.getId(), goalId);
+        return RsData.of(200, "목표가 삭제되었습니다.");
+    }
+
+    @Operation(summary = "오늘의 목표", description = "오늘이 수행 요일인 목표와 서브 목표별 오늘 달성 여부")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "오늘의 목표 조회"),
+            @ApiResponse(responseCode = "304", description = "If-None-Match 와 같음 (변경 없음)"),
+            @ApiResponse(responseCode = "401", description = "로그인 필요")
+    })
+    @GetMapping("/today")
+    public RsData<GoalAgendaDto> getToday() {
+        User actor = rq.getActor();
+        if (actor == null) throw new UnauthorizedException();
+
+        LocalDate today = LocalDate.now();
+        if (rq.checkNotModified(goalQueryService.revisionETag(actor.getId(), today))) return null;
+
+        return RsData.successOf(goalAgendaService.getAgenda(actor.getId(), today));
+    }
+
+    @Operation(summary = "목표 통계", description = "현재/최고 연속 달성과 최근 N주 달성률")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "통계 조회"),
+            @ApiResponse(responseCode = "304", description = "If-None-Match 와 같음 (변경 없음)"),
+            @ApiResponse(responseCode = "401", description = "로그인 필요"),
+            @ApiResponse(responseCode = "404", description = "목표 없음")
+    })
+    @GetMapping("/{goalId}/stats")
+    public RsData<GoalStatsDto> getStats(@PathVariable UUID goalId,
+                                         @RequestParam(defaultValue = "4") int weeks) {
+        User actor = rq.getActor();
+        if (actor == null) throw new UnauthorizedException();
+
+        LocalDate today = LocalDate.now();
+        Optional<String> etag = goalQueryService.statsETag(actor.getId(), goalId, today);
+        if (etag.isPresent() && rq.checkNotModified(etag.get())) return null;
+
+        return RsData.successOf(goalStatsService.getStats(actor.getId(), goalId, weeks, today));
+    }
+
+    @Operation(summary = "목표 이력 내보내기", description = "목표, 서브 목표, 수행 요일, 달성 기록 전체를 NDJSON 또는 CSV 로 스트리밍")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "내보내기 파일"),
+            @ApiResponse(responseCode = "400", description = "지원하지 않는 형식"),
+            @ApiResponse(responseCode = "401", description = "로그인 필요")
+    })
+    @GetMapping("/export")
+    public void export(@RequestParam(defaultValue = "ndjson") String format,
+                       HttpServletResponse response) throws IOException {
+        User actor = rq.getActor();
+        if (actor == null) throw new UnauthorizedException();
+        GoalExportFormat exportFormat = GoalExportFormat.from(format);
+
+        // 응답 버퍼가 찰 때마다 클라이언트로 내려감 (전체를 메모리에 모으지 않음)
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"goals." + exportFormat.getExtension() + "\"");
+        goalExportService.export(actor.getId(), exportFormat, response.getOutputStream());
+    }
+}
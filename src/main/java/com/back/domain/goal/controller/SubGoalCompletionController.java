@@ -0,0 +1,69 @@
+package com.back.domain.goal.controller;
+
+import com.back.domain.goal.dto.CompletionBatchReqDto;
+import com.back.domain.goal.dto.CompletionBatchResDto;
+import com.back.domain.goal.dto.CompletionHistoryDto;
+import com.back.domain.goal.service.CompletionHistoryService;
+import com.back.domain.goal.service.GoalQueryService;
+import com.back.domain.goal.service.SubGoalCompletionService;
+import com.back.domain.user.entity.User;
+import com.back.global.exception.UnauthorizedException;
+import com.back.global.rq.Rq;
+import com.back.global.rsData.RsData;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Tag(name = "SubGoalCompletion", description = "서브 목표 달성 기록 API")
+@RestController
+@RequestMapping("/goals/completions")
+@RequiredArgsConstructor
+public class SubGoalCompletionController {
+
+    private final SubGoalCompletionService subGoalCompletionService;
+    private final CompletionHistoryService completionHistoryService;
+    private final GoalQueryService goalQueryService;
+    private final Rq rq;
+
+    @Operation(summary = "달성 기록 일괄 저장", description = "오프라인에서 쌓인 달성 기록을 한 번에 저장 (clientEventId 로 중복 제거)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "저장 결과 (신규/중복/거부 건수)"),
+            @ApiResponse(responseCode = "400", description = "최대 건수 초과 또는 completedAt 이 미래 / 목표 시작일 이전"),
+            @ApiResponse(responseCode = "401", description = "로그인 필요")
+    })
+    @PostMapping("/batch")
+    public RsData<CompletionBatchResDto> recordBatch(@RequestBody CompletionBatchReqDto reqDto) {
+        User actor = rq.getActor();
+        if (actor == null) throw new UnauthorizedException();
+
+        CompletionBatchResDto result = subGoalCompletionService.recordBatch(actor.getId(), reqDto.getCompletions());
+        return RsData.of(200, "달성 기록이 저장되었습니다.", result);
+    }
+
+    @Operation(summary = "달성 이력 조회", description = "최신순 키셋 페이지네이션 (응답의 nextCursor 를 cursor 로 전달), goalId/subGoalId 로 필터")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "달성 이력 한 페이지"),
+            @ApiResponse(responseCode = "304", description = "If-None-Match 와 같음 (변경 없음)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 size"),
+            @ApiResponse(responseCode = "401", description = "로그인 필요")
+    })
+    @GetMapping
+    public RsData<CompletionHistoryDto> getHistory(@RequestParam(required = false) UUID goalId,
+                                                   @RequestParam(required = false) UUID subGoalId,
+                                                   @RequestParam(required = false) String cursor,
+                                                   @RequestParam(required = false) Integer size) {
+        User actor = rq.getActor();
+        if (actor == null) throw new UnauthorizedException();
+
+        if (rq.checkNotModified(goalQueryService.revisionETag(actor.getId(), LocalDate.now()))) return null;
+
+        CompletionHistoryDto result = completionHistoryService.getHistory(actor.getId(), goalId, subGoalId, cursor, size);
+        return RsData.of(200, "달성 이력 조회 성공", result);
+    }
+}
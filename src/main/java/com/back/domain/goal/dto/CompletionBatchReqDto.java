@@ -0,0 +1,29 @@
+package com.back.domain.goal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CompletionBatchReqDto {
+
+    private List<Item> completions;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Item {
+        private UUID subGoalId;
+        private LocalDateTime completedAt;  // 없으면 서버 수신 시각, 미래(허용 오차 초과)거나 목표 시작일 이전이면 400
+        private String clientEventId;       // 클라이언트가 만든 이벤트 ID (재전송 중복 제거 키)
+    }
+}
@@ -0,0 +1,19 @@
+package com.back.domain.goal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CompletionBatchResDto {
+
+    private int inserted;                 // 새로 저장된 건수
+    private int duplicates;               // 이미 저장되어 있거나 요청 안에서 겹친 건수
+    private List<String> rejected;        // 형식 오류 또는 본인 서브 목표가 아닌 항목의 clientEventId
+}
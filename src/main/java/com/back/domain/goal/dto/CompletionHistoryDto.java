@@ -0,0 +1,31 @@
+package com.back.domain.goal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CompletionHistoryDto {
+
+    private List<Item> items;             // 최신순
+    private String nextCursor;            // 다음 페이지 요청에 그대로 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Item {
+        private Long id;
+        private UUID subGoalId;
+        private LocalDateTime completedAt;
+    }
+}
@@ -0,0 +1,56 @@
+package com.back.domain.goal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 오늘의 목표 (캐시에 그대로 저장되므로 불변, 변경은 새 인스턴스로)
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class GoalAgendaDto {
+
+    private LocalDate date;
+    private List<GoalItem> goals;         // 이 날이 수행 요일인 목표만
+
+    // 달성한 서브 목표를 반영한 사본 (해당 없으면 자기 자신)
+    public GoalAgendaDto withCompleted(Set<UUID> subGoalIds) {
+        boolean changed = goals.stream()
+                .flatMap(goal -> goal.getSubGoals().stream())
+                .anyMatch(subGoal -> !subGoal.isCompleted() && subGoalIds.contains(subGoal.getId()));
+        if (!changed) return this;
+
+        return new GoalAgendaDto(date, goals.stream()
+                .map(goal -> new GoalItem(goal.getId(), goal.getTitle(), goal.getSubGoals().stream()
+                        .map(subGoal -> subGoal.isCompleted() || !subGoalIds.contains(subGoal.getId())
+                                ? subGoal
+                                : new SubGoalItem(subGoal.getId(), subGoal.getTitle(), true))
+                        .toList()))
+                .toList());
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class GoalItem {
+        private UUID id;
+        private String title;
+        private List<SubGoalItem> subGoals;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class SubGoalItem {
+        private UUID id;
+        private String title;
+        private boolean completed;        // 이 날 달성 기록이 있는지
+    }
+}
@@ -0,0 +1,25 @@
+package com.back.domain.goal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GoalStatsDto {
+
+    private UUID goalId;
+    private int currentStreak;        // 오늘 기준 연속 달성 (수행 요일 단위)
+    private int bestStreak;
+    private LocalDate lastCompletedDate;
+    private int weeks;                // 달성률 계산 기간 (주)
+    private int scheduledDays;        // 기간 안 수행 요일 수 (오늘은 달성했을 때만 포함)
+    private int completedDays;        // 그중 달성한 날 수
+    private double completionRate;    // completedDays / scheduledDays
+}
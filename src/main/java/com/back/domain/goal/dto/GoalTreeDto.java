@@ -0,0 +1,53 @@
+package com.back.domain.goal.dto;
+
+import com.back.domain.goal.entity.Goal;
+import com.back.domain.goal.entity.SubGoal;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GoalTreeDto {
+
+    private UUID id;
+    private String title;
+    private LocalDateTime createdAt;
+    private List<Integer> scheduleDays; // 0: 일요일 ... 6: 토요일 (오름차순)
+    private List<SubGoalDto> subGoals;
+
+    public static GoalTreeDto from(Goal goal) {
+        return GoalTreeDto.builder()
+                .id(goal.getId())
+                .title(goal.getTitle())
+                .createdAt(goal.getCreatedAt())
+                .scheduleDays(goal.getScheduleMask().days())
+                .subGoals(goal.getSubGoals().stream().map(SubGoalDto::from).toList())
+                .build();
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class SubGoalDto {
+        private UUID id;
+        private String title;
+        private LocalDateTime createdAt;
+
+        public static SubGoalDto from(SubGoal subGoal) {
+            return SubGoalDto.builder()
+                    .id(subGoal.getId())
+                    .title(subGoal.getTitle())
+                    .createdAt(subGoal.getCreatedAt())
+                    .build();
+        }
+    }
+}
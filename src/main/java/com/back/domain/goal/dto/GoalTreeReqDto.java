@@ -0,0 +1,29 @@
+package com.back.domain.goal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GoalTreeReqDto {
+
+    private String title;
+    private List<Integer> scheduleDays;   // 0: 일요일 ... 6: 토요일 (비우면 매일)
+    private List<SubGoalItem> subGoals;   // 수정 시: 목록에 없는 기존 서브 목표는 삭제
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class SubGoalItem {
+        private UUID id;                  // 수정 시 유지할 기존 서브 목표 (새로 만들면 null)
+        private String title;
+    }
+}
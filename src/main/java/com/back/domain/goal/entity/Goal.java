@@ -0,0 +1,102 @@
+package com.back.domain.goal.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+@Entity
+@Table(name = "goals", indexes = {
+        @Index(name = "idx_goals_user_id", columnList = "userId") // 사용자별 목표 트리 조회
+})
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Goal {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID userId;
+
+    @Column(nullable = false)
+    private String title;
+
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    // 목표 필드 변경 시 Hibernate 가, 서브 목표 / 달성 기록 변경 시 GoalRepository.touch 로 증가 (조회 API ETag)
+    @Version
+    private Long version;
+
+    // 목표 트리 조회 시 fetch join 으로 한 번에 로딩 (GoalRepository 참고)
+    @OneToMany(mappedBy = "goal", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("createdAt ASC, id ASC")
+    @Builder.Default
+    private List<SubGoal> subGoals = new ArrayList<>();
+
+    // 0: 일요일, 1: 월요일, ..., 6: 토요일 (변경은 setScheduleDays 로, scheduleMask 와 함께 갱신)
+    @ElementCollection
+    @CollectionTable(name = "goal_schedule_days", joinColumns = @JoinColumn(name = "goal_id"))
+    @Column(name = "day_of_week", nullable = false)
+    @Builder.Default
+    private Set<Integer> scheduleDays = new LinkedHashSet<>();
+
+    // scheduleDays 의 7비트 마스크 사본, 수행 요일 판정은 조인 없이 이 컬럼으로
+    // 따로 바꾸면 scheduleDays 와 어긋나므로 setter 없음 (setScheduleDays 로만 갱신)
+    @Setter(AccessLevel.NONE)
+    @Convert(converter = WeekMaskConverter.class)
+    @Column(name = "schedule_mask", nullable = false)
+    @Builder.Default
+    private WeekMask scheduleMask = WeekMask.EVERY_DAY;
+
+    // 바뀐 요일만 컬렉션에서 빼고 더함 (같은 요일 행은 건드리지 않음)
+    public void setScheduleDays(Collection<Integer> scheduleDays) {
+        this.scheduleMask = WeekMask.of(scheduleDays);
+        List<Integer> days = scheduleMask.days();
+        this.scheduleDays.retainAll(days);
+        this.scheduleDays.addAll(days);
+    }
+
+    // 빌더로 만든 경우 저장 직전에 마스크 계산
+    @PrePersist
+    void syncScheduleMask() {
+        this.scheduleMask = WeekMask.of(scheduleDays);
+    }
+
+    public SubGoal addSubGoal(String title) {
+        SubGoal subGoal = SubGoal.builder()
+                .goal(this)
+                .title(title)
+                .build();
+        subGoals.add(subGoal);
+        return subGoal;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        Goal goal = (Goal) o;
+        return id != null && Objects.equals(id, goal.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+}
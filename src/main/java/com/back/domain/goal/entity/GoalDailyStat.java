@@ -0,0 +1,38 @@
+package com.back.domain.goal.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+// 목표별 / 날짜별 달성 건수 (sub_goal_completions 집계, 달성 기록 저장 시 함께 갱신)
+@Entity
+@Table(name = "goal_daily_stats")
+@IdClass(GoalDailyStat.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GoalDailyStat {
+
+    @Id
+    private UUID goalId;
+
+    @Id
+    private LocalDate statDate;
+
+    @Column(nullable = false)
+    private int completions;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private UUID goalId;
+        private LocalDate statDate;
+    }
+}
@@ -0,0 +1,36 @@
+package com.back.domain.goal.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 목표별 연속 달성 기록
+ * currentStreak 는 lastCompletedDate 기준 값이며, 조회 시 그 뒤로 빠진 수행 요일이 있으면 0으로 본다.
+ */
+@Entity
+@Table(name = "goal_streaks")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GoalStreak {
+
+    @Id
+    private UUID goalId;
+
+    @Column(nullable = false)
+    private int currentStreak;
+
+    @Column(nullable = false)
+    private int bestStreak;
+
+    private LocalDate lastCompletedDate;
+
+    // 같은 목표를 동시에 갱신하면 한쪽이 실패하고 재시도 (null 이면 신규 → persist)
+    @Version
+    private Long version;
+}
@@ -0,0 +1,40 @@
+package com.back.domain.goal.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 서브 목표 달성 기록 (건수가 가장 많은 테이블이라 연관관계 없이 ID만 보관)
+@Entity
+@Table(name = "sub_goal_completions", uniqueConstraints = {
+        // 오프라인 동기화 재전송 시 중복 방지 (클라이언트가 만든 이벤트 ID)
+        @UniqueConstraint(name = "uk_sub_goal_completions_client_event", columnNames = {"subGoalId", "clientEventId"})
+}, indexes = {
+        // 달성 이력 키셋 페이지네이션 (서브 목표별 시간 범위)
+        @Index(name = "idx_sub_goal_completions_sub_goal_completed_at", columnList = "subGoalId, completedAt")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SubGoalCompletion {
+
+    // IDENTITY 는 INSERT 마다 키를 받아와야 해서 JDBC 배치가 꺼짐
+    // 시퀀스를 50개 단위로 당겨오고(pooled-lo) INSERT 는 hibernate.jdbc.batch_size 단위로 묶음
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sub_goal_completions_id_seq")
+    @SequenceGenerator(name = "sub_goal_completions_id_seq", sequenceName = "sub_goal_completions_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private UUID subGoalId;
+
+    @Column(nullable = false)
+    private LocalDateTime completedAt;
+
+    @Column(length = 64)
+    private String clientEventId;
+}
@@ -0,0 +1,48 @@
+package com.back.domain.goal.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 대 목표 요약 (goals 와 1:1, 목표 트리와 따로 조회하므로 goalId 만 보관)
+@Entity
+@Table(name = "summary")
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Summary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(nullable = false, unique = true)
+    private UUID goalId;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    // 요약을 만들 때의 목표 달성 건수 (goal_daily_stats 합계와 다르면 다시 생성 대상)
+    @Column(nullable = false)
+    private long completionCount;
+
+    // 요약을 만든 기준 날짜 (연속 달성/최근 N주 문장은 날짜가 바뀌면 달라지므로 하루가 지나면 다시 생성 대상)
+    @Column(nullable = false)
+    private LocalDate generatedOn;
+
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,118 @@
+package com.back.domain.goal.entity;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 수행 요일 7비트 마스크 (bit 0: 일요일 ... bit 6: 토요일, goal_schedule_days.day_of_week 와 같은 번호)
+ * - 수행 요일이 하나도 없으면 매일이 수행 요일
+ * - 판정, 다음 수행일, 기간 안 수행일 수 모두 반복 없이 비트 연산으로 계산
+ */
+public final class WeekMask {
+
+    public static final WeekMask EVERY_DAY = new WeekMask(0);
+
+    private static final int ALL_DAYS = 0x7F;
+    private static final WeekMask[] CACHE = new WeekMask[ALL_DAYS + 1];
+
+    static {
+        CACHE[0] = EVERY_DAY;
+        for (int bits = 1; bits <= ALL_DAYS; bits++) CACHE[bits] = new WeekMask(bits);
+    }
+
+    private final int bits;
+
+    private WeekMask(int bits) {
+        this.bits = bits;
+    }
+
+    public static WeekMask ofBits(int bits) {
+        if ((bits & ~ALL_DAYS) != 0) {
+            throw new IllegalArgumentException("수행 요일 마스크는 0~127 이어야 합니다: " + bits);
+        }
+        return CACHE[bits];
+    }
+
+    public static WeekMask of(Collection<Integer> daysOfWeek) {
+        int bits = 0;
+        for (int day : daysOfWeek) {
+            if (day < 0 || day > 6) throw new IllegalArgumentException("요일은 0~6 이어야 합니다: " + day);
+            bits |= 1 << day;
+        }
+        return CACHE[bits];
+    }
+
+    // 0: 일요일 ... 6: 토요일
+    public static int dayOfWeek(LocalDate date) {
+        return date.getDayOfWeek().getValue() % 7;
+    }
+
+    // 저장되는 원래 값 (0 이면 요일 지정 없음)
+    public int bits() {
+        return bits;
+    }
+
+    public boolean isEmpty() {
+        return bits == 0;
+    }
+
+    public boolean isScheduled(LocalDate date) {
+        return isScheduled(dayOfWeek(date));
+    }
+
+    public boolean isScheduled(int dayOfWeek) {
+        return (effectiveBits() & (1 << dayOfWeek)) != 0;
+    }
+
+    // date 다음 수행일 (date 제외, 최대 7일 뒤)
+    public LocalDate nextScheduledAfter(LocalDate date) {
+        int start = (dayOfWeek(date) + 1) % 7;
+        return date.plusDays(1 + Integer.numberOfTrailingZeros(rotate(effectiveBits(), start)));
+    }
+
+    // from ~ to (양 끝 포함) 사이 수행일 수
+    public int countScheduled(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) return 0;
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        int effective = effectiveBits();
+        int remainderMask = (1 << (int) (days % 7)) - 1;
+        return (int) (days / 7) * Integer.bitCount(effective)
+                + Integer.bitCount(rotate(effective, dayOfWeek(from)) & remainderMask);
+    }
+
+    // 지정된 요일 (오름차순, 지정 없으면 빈 목록)
+    public List<Integer> days() {
+        List<Integer> days = new ArrayList<>(Integer.bitCount(bits));
+        for (int day = 0; day < 7; day++) {
+            if ((bits & (1 << day)) != 0) days.add(day);
+        }
+        return days;
+    }
+
+    private int effectiveBits() {
+        return bits == 0 ? ALL_DAYS : bits;
+    }
+
+    // start 요일이 bit 0 이 되도록 회전
+    private static int rotate(int bits, int start) {
+        return ((bits >>> start) | (bits << (7 - start))) & ALL_DAYS;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof WeekMask other && bits == other.bits;
+    }
+
+    @Override
+    public int hashCode() {
+        return bits;
+    }
+
+    @Override
+    public String toString() {
+        return "WeekMask" + days();
+    }
+}
@@ -0,0 +1,19 @@
+package com.back.domain.goal.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// goals.schedule_mask (SMALLINT) <-> WeekMask
+@Converter
+public class WeekMaskConverter implements AttributeConverter<WeekMask, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(WeekMask mask) {
+        return mask == null ? 0 : (short) mask.bits();
+    }
+
+    @Override
+    public WeekMask convertToEntityAttribute(Short bits) {
+        return bits == null ? WeekMask.EVERY_DAY : WeekMask.ofBits(bits);
+    }
+}
@@ -0,0 +1,16 @@
+package com.back.domain.goal.repository;
+
+import com.back.domain.goal.entity.GoalDailyStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface GoalDailyStatRepository extends JpaRepository<GoalDailyStat, GoalDailyStat.Key> {
+
+    // PK (goal_id, stat_date) 범위 조회
+    List<GoalDailyStat> findAllByGoalIdAndStatDateBetween(UUID goalId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,68 @@
+package com.back.domain.goal.repository;
+
+import com.back.domain.goal.entity.Goal;
+import com.back.domain.goal.entity.WeekMask;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 목표 트리(목표 → 서브 목표)는 fetch join 한 번으로 로딩한다.
+ * 수행 요일은 goals.schedule_mask 에 같이 있으므로 goal_schedule_days 를 조인하지 않는다. 목표 수와 관계없이 항상 1회.
+ */
+@Repository
+public interface GoalRepository extends JpaRepository<Goal, UUID> {
+
+    @Query("""
+            select distinct g from Goal g
+            left join fetch g.subGoals
+            where g.userId = :userId
+            order by g.createdAt, g.id
+            """)
+    List<Goal> findAllWithSubGoalsByUserId(@Param("userId") UUID userId);
+
+    // 여러 목표의 수행 요일 마스크를 한 번에 (통계 갱신용, 조인 없음)
+    @Query("select g.id as goalId, g.scheduleMask as scheduleMask from Goal g where g.id in :goalIds")
+    List<ScheduleMaskView> findScheduleMasks(@Param("goalIds") Collection<UUID> goalIds);
+
+    boolean existsByIdAndUserId(UUID id, UUID userId);
+
+    // 서브 목표 / 달성 기록 변경을 목표 버전과 소유자의 목표 리비전에 반영 (ETag 갱신)
+    default void touch(Collection<UUID> goalIds) {
+        if (goalIds.isEmpty()) return;
+        touchVersions(goalIds);
+        bumpRevisionOf(goalIds);
+    }
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Goal g set g.version = g.version + 1 where g.id in :goalIds")
+    int touchVersions(@Param("goalIds") Collection<UUID> goalIds);
+
+    // 사용자 단위 목표 리비전 (users.goal_revision): 목표 생성/삭제처럼 목표 버전으로 드러나지 않는 변경도 반영
+    @Modifying(flushAutomatically = true)
+    @Query("update User u set u.goalRevision = u.goalRevision + 1 where u.id = :userId")
+    int bumpRevision(@Param("userId") UUID userId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update User u set u.goalRevision = u.goalRevision + 1 where u.id in (select g.userId from Goal g where g.id in :goalIds)")
+    int bumpRevisionOf(@Param("goalIds") Collection<UUID> goalIds);
+
+    @Query("select u.goalRevision from User u where u.id = :userId")
+    Optional<Long> findRevision(@Param("userId") UUID userId);
+
+    @Query("select g.version from Goal g where g.id = :goalId and g.userId = :userId")
+    Optional<Long> findVersion(@Param("goalId") UUID goalId, @Param("userId") UUID userId);
+
+    interface ScheduleMaskView {
+        UUID getGoalId();
+
+        WeekMask getScheduleMask();
+    }
+}
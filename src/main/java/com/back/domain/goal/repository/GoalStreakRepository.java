@@ -0,0 +1,11 @@
+package com.back.domain.goal.repository;
+
+import com.back.domain.goal.entity.GoalStreak;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface GoalStreakRepository extends JpaRepository<GoalStreak, UUID> {
+}
@@ -0,0 +1,68 @@
+package com.back.domain.goal.repository;
+
+import com.back.domain.goal.entity.SubGoalCompletion;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface SubGoalCompletionRepository extends JpaRepository<SubGoalCompletion, Long> {
+
+    // 이미 저장된 (subGoalId, clientEventId) 조회, 짝 맞추기는 호출 측에서
+    @Query("""
+            select c from SubGoalCompletion c
+            where c.subGoalId in :subGoalIds and c.clientEventId in :clientEventIds
+            """)
+    List<SubGoalCompletion> findAllByClientEvents(@Param("subGoalIds") Collection<UUID> subGoalIds,
+                                                  @Param("clientEventIds") Collection<String> clientEventIds);
+
+    // 달성 이력 첫 페이지 (최신순)
+    @Query("""
+            select c from SubGoalCompletion c
+            where c.subGoalId in :subGoalIds
+            order by c.completedAt desc, c.id desc
+            """)
+    List<SubGoalCompletion> findHistory(@Param("subGoalIds") Collection<UUID> subGoalIds, Limit limit);
+
+    // 달성 이력 다음 페이지: (completedAt, id) 가 커서보다 작은 행부터 (OFFSET 없이 인덱스 범위 탐색)
+    @Query("""
+            select c from SubGoalCompletion c
+            where c.subGoalId in :subGoalIds
+              and (c.completedAt < :completedAt or (c.completedAt = :completedAt and c.id < :id))
+            order by c.completedAt desc, c.id desc
+            """)
+    List<SubGoalCompletion> findHistoryAfter(@Param("subGoalIds") Collection<UUID> subGoalIds,
+                                             @Param("completedAt") LocalDateTime completedAt,
+                                             @Param("id") Long id,
+                                             Limit limit);
+
+    // 기간 안에 달성 기록이 있는 서브 목표 ((sub_goal_id, completed_at) 인덱스 범위 탐색)
+    @Query("""
+            select distinct c.subGoalId from SubGoalCompletion c
+            where c.subGoalId in :subGoalIds and c.completedAt >= :from and c.completedAt < :to
+            """)
+    List<UUID> findCompletedSubGoalIds(@Param("subGoalIds") Collection<UUID> subGoalIds,
+                                       @Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to);
+
+    // 서브 목표별 달성 건수 (기록 없는 서브 목표는 빠짐)
+    @Query("""
+            select c.subGoalId as subGoalId, count(c) as completions from SubGoalCompletion c
+            where c.subGoalId in :subGoalIds
+            group by c.subGoalId
+            """)
+    List<SubGoalCount> countBySubGoalIds(@Param("subGoalIds") Collection<UUID> subGoalIds);
+
+    interface SubGoalCount {
+        UUID getSubGoalId();
+
+        long getCompletions();
+    }
+}
@@ -0,0 +1,39 @@
+package com.back.domain.goal.repository;
+
+import com.back.domain.goal.entity.SubGoal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface SubGoalRepository extends JpaRepository<SubGoal, UUID> {
+
+    // 소유권 확인 (ids 중 userId 의 목표에 속한 서브 목표만) + 소속 목표 / 목표 시작 시각
+    @Query("select s.id as id, s.goal.id as goalId, s.goal.createdAt as goalCreatedAt from SubGoal s where s.id in :ids and s.goal.userId = :userId")
+    List<OwnedSubGoal> findOwned(@Param("ids") Collection<UUID> ids, @Param("userId") UUID userId);
+
+    // 달성 이력 조회 대상 (goalId, subGoalId 는 선택 필터)
+    @Query("""
+            select s.id from SubGoal s
+            where s.goal.userId = :userId
+              and (:goalId is null or s.goal.id = :goalId)
+              and (:subGoalId is null or s.id = :subGoalId)
+            """)
+    List<UUID> findIdsByUserId(@Param("userId") UUID userId,
+                               @Param("goalId") UUID goalId,
+                               @Param("subGoalId") UUID subGoalId);
+
+    interface OwnedSubGoal {
+        UUID getId();
+
+        UUID getGoalId();
+
+        LocalDateTime getGoalCreatedAt();
+    }
+}
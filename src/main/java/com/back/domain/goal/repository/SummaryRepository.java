@@ -0,0 +1,14 @@
+package com.back.domain.goal.repository;
+
+import com.back.domain.goal.entity.Summary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface SummaryRepository extends JpaRepository<Summary, UUID> {
+
+    Optional<Summary> findByGoalId(UUID goalId);
+}
@@ -0,0 +1,89 @@
+package com.back.domain.goal.service;
+
+import com.back.domain.goal.dto.CompletionHistoryDto;
+import com.back.domain.goal.entity.SubGoalCompletion;
+import com.back.domain.goal.repository.SubGoalCompletionRepository;
+import com.back.domain.goal.repository.SubGoalRepository;
+import com.back.global.exception.ServiceException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 달성 이력 조회 (키셋 페이지네이션)
+ * - 커서는 마지막 행의 (completedAt, id), OFFSET 을 쓰지 않아 페이지가 깊어져도 비용이 같다
+ * - 같은 시각의 기록은 id 로 순서를 고정해 페이지 경계에서 빠지거나 겹치지 않는다
+ */
+@Service
+@RequiredArgsConstructor
+public class CompletionHistoryService {
+
+    static final int DEFAULT_SIZE = 20;
+    static final int MAX_SIZE = 100;
+
+    private final SubGoalRepository subGoalRepository;
+    private final SubGoalCompletionRepository subGoalCompletionRepository;
+
+    @Transactional(readOnly = true)
+    public CompletionHistoryDto getHistory(UUID userId, UUID goalId, UUID subGoalId, String cursor, Integer size) {
+        int pageSize = size == null ? DEFAULT_SIZE : size;
+        if (pageSize < 1 || pageSize > MAX_SIZE) {
+            throw new ServiceException(400, "size 는 1~" + MAX_SIZE + " 사이여야 합니다.");
+        }
+        Cursor after = cursor == null || cursor.isBlank() ? null : Cursor.decode(cursor);
+
+        // 본인 서브 목표만 (필터가 남의 목표를 가리키면 빈 결과)
+        List<UUID> subGoalIds = subGoalRepository.findIdsByUserId(userId, goalId, subGoalId);
+        if (subGoalIds.isEmpty()) {
+            return CompletionHistoryDto.builder().items(List.of()).hasNext(false).build();
+        }
+
+        // 한 건 더 읽어서 다음 페이지 존재 여부 판단
+        Limit limit = Limit.of(pageSize + 1);
+        List<SubGoalCompletion> rows = after == null
+                ? subGoalCompletionRepository.findHistory(subGoalIds, limit)
+                : subGoalCompletionRepository.findHistoryAfter(subGoalIds, after.completedAt(), after.id(), limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<SubGoalCompletion> page = hasNext ? rows.subList(0, pageSize) : rows;
+        SubGoalCompletion last = page.isEmpty() ? null : page.getLast();
+
+        return CompletionHistoryDto.builder()
+                .items(page.stream()
+                        .map(c -> CompletionHistoryDto.Item.builder()
+                                .id(c.getId())
+                                .subGoalId(c.getSubGoalId())
+                                .completedAt(c.getCompletedAt())
+                                .build())
+                        .toList())
+                .nextCursor(hasNext ? new Cursor(last.getCompletedAt(), last.getId()).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // "completedAt|id" 를 base64url 로 (클라이언트는 내용을 해석하지 않음)
+    record Cursor(LocalDateTime completedAt, Long id) {
+
+        String encode() {
+            String raw = completedAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String value) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+                int separator = raw.indexOf('|');
+                return new Cursor(LocalDateTime.parse(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new ServiceException(400, "잘못된 커서입니다.");
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.back.domain.goal.service;
+
+import com.back.domain.goal.dto.GoalAgendaDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 오늘의 목표 캐시 (앱 첫 화면)
+ * - 키: (userId, 날짜), 값: 불변 GoalAgendaDto
+ * - 달성 기록 저장: 커밋 직후 캐시된 항목만 달성 표시로 교체 (다시 조회하지 않음)
+ *   같은 키를 적재 중이면 적재가 끝난 뒤 반영됨 (Caffeine compute 는 키 단위 원자적)
+ * - 수행 요일/목표 구성 변경: 해당 사용자 항목 전체 무효화
+ */
+@Component
+public class GoalAgendaCache {
+
+    private final boolean enabled;
+    private final Cache<Key, GoalAgendaDto> cache;
+
+    public GoalAgendaCache(@Value("${custom.goalAgenda.cache.enabled:true}") boolean enabled,
+                           @Value("${custom.goalAgenda.cache.maximumSize:10000}") long maximumSize,
+                           @Value("${custom.goalAgenda.cache.ttlSeconds:600}") long ttlSeconds) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    public GoalAgendaDto get(UUID userId, LocalDate date, Supplier<GoalAgendaDto> loader) {
+        if (!enabled) return loader.get();
+        return cache.get(new Key(userId, date), key -> loader.get());
+    }
+
+    // 날짜별 새로 달성한 서브 목표 반영
+    public void markCompleted(UUID userId, Map<LocalDate, Set<UUID>> subGoalIdsByDate) {
+        if (!enabled || subGoalIdsByDate.isEmpty()) return;
+        afterCommit(() -> subGoalIdsByDate.forEach((date, subGoalIds) ->
+                cache.asMap().computeIfPresent(new Key(userId, date), (key, agenda) -> agenda.withCompleted(subGoalIds))));
+    }
+
+    // 사용자 항목 전체 (날짜 수만큼만 있으므로 드문 변경에는 전체 키 훑기로 충분)
+    public void evictUser(UUID userId) {
+        if (!enabled || userId == null) return;
+        Runnable evict = () -> cache.asMap().keySet().removeIf(key -> key.userId().equals(userId));
+        evict.run();
+        afterCommit(evict);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record Key(UUID userId, LocalDate date) {
+    }
+}
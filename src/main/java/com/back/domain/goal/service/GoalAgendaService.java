@@ -0,0 +1,65 @@
+package com.back.domain.goal.service;
+
+import com.back.domain.goal.dto.GoalAgendaDto;
+import com.back.domain.goal.entity.Goal;
+import com.back.domain.goal.entity.SubGoal;
+import com.back.domain.goal.repository.GoalRepository;
+import com.back.domain.goal.repository.SubGoalCompletionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 오늘의 목표: 이 날이 수행 요일인 목표와 서브 목표별 달성 여부
+ * 캐시 적중 시 쿼리 없음, 적재 시 2회 (목표 트리 1 + 이 날 달성한 서브 목표 1)
+ */
+@Service
+@RequiredArgsConstructor
+public class GoalAgendaService {
+
+    private final GoalRepository goalRepository;
+    private final SubGoalCompletionRepository subGoalCompletionRepository;
+    private final GoalAgendaCache goalAgendaCache;
+
+    public GoalAgendaDto getAgenda(UUID userId, LocalDate date) {
+        return goalAgendaCache.get(userId, date, () -> load(userId, date));
+    }
+
+    private GoalAgendaDto load(UUID userId, LocalDate date) {
+        // 수행 요일 판정은 schedule_mask 로 (goal_schedule_days 조인 없음)
+        List<Goal> goals = goalRepository.findAllWithSubGoalsByUserId(userId).stream()
+                .filter(goal -> goal.getScheduleMask().isScheduled(date))
+                .toList();
+
+        List<UUID> subGoalIds = goals.stream()
+                .flatMap(goal -> goal.getSubGoals().stream())
+                .map(SubGoal::getId)
+                .toList();
+        Set<UUID> completed = subGoalIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(subGoalCompletionRepository.findCompletedSubGoalIds(
+                        subGoalIds, date.atStartOfDay(), date.plusDays(1).atStartOfDay()));
+
+        return GoalAgendaDto.builder()
+                .date(date)
+                .goals(goals.stream()
+                        .map(goal -> GoalAgendaDto.GoalItem.builder()
+                                .id(goal.getId())
+                                .title(goal.getTitle())
+                                .subGoals(goal.getSubGoals().stream()
+                                        .map(subGoal -> GoalAgendaDto.SubGoalItem.builder()
+                                                .id(subGoal.getId())
+                                                .title(subGoal.getTitle())
+                                                .completed(completed.contains(subGoal.getId()))
+                                                .build())
+                                        .toList())
+                                .build())
+                        .toList())
+                .build();
+    }
+}
@@ -0,0 +1,37 @@
+package com.back.domain.goal.service;
+
+import com.back.global.exception.ServiceException;
+
+import java.util.Locale;
+
+/**
+ * 목표 이력 내보내기 형식
+ */
+public enum GoalExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    GoalExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static GoalExportFormat from(String value) {
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ServiceException(400, "지원하지 않는 형식입니다. (ndjson, csv)");
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package com.back.domain.goal.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 사용자의 목표 / 서브 목표 / 수행 요일 / 달성 기록 전체를 NDJSON 또는 CSV 로 내보낸다.
+ * - 키셋 청크(chunkSize 행) 단위로 읽고, 청크마다 짧은 읽기 전용 트랜잭션 → 응답 스트림에 쓰는 동안에는 커넥션을 잡지 않음
+ * - 메모리에는 청크 하나만 올라가므로 이력 크기와 관계없이 일정, 느린 다운로드가 커넥션 풀/스냅샷을 오래 붙잡지 않음
+ * - 청크마다 스냅샷이 달라 내보내는 도중 추가/삭제된 기록은 포함될 수도 빠질 수도 있음 (기존 기록은 정렬 키 기준으로 중복/누락 없음)
+ * - CSV 는 수식으로 시작하는 값 앞에 ' 를 붙여 스프레드시트에서 실행되지 않게 함
+ */
+@Service
+public class GoalExportService {
+
+    // %s 자리에 첫 청크는 빈 문자열, 다음 청크부터 *_AFTER 조건 (행 값 비교라 정렬 인덱스를 그대로 탐)
+    private static final String GOALS_SQL = """
+            SELECT id, title, created_at FROM goals
+            WHERE user_id = :userId %s
+            ORDER BY created_at, id
+            LIMIT :limit
+            """;
+    private static final String GOALS_AFTER = "AND (created_at, id) > (:afterAt, :afterId)";
+
+    private static final String SUB_GOALS_SQL = """
+            SELECT s.id, s.goal_id, s.title, s.created_at FROM goals_sub s
+            JOIN goals g ON g.id = s.goal_id
+            WHERE g.user_id = :userId %s
+            ORDER BY s.goal_id, s.created_at, s.id
+            LIMIT :limit
+            """;
+    private static final String SUB_GOALS_AFTER = "AND (s.goal_id, s.created_at, s.id) > (:afterGoalId, :afterAt, :afterId)";
+
+    private static final String SCHEDULE_DAYS_SQL = """
+            SELECT d.goal_id, d.day_of_week FROM goal_schedule_days d
+            JOIN goals g ON g.id = d.goal_id
+            WHERE g.user_id = :userId %s
+            ORDER BY d.goal_id, d.day_of_week
+            LIMIT :limit
+            """;
+    private static final String SCHEDULE_DAYS_AFTER = "AND (d.goal_id, d.day_of_week) > (:afterGoalId, :afterDay)";
+
+    private static final String COMPLETIONS_SQL = """
+            SELECT c.id, c.sub_goal_id, c.completed_at FROM sub_goal_completions c
+            JOIN goals_sub s ON s.id = c.sub_goal_id
+            JOIN goals g ON g.id = s.goal_id
+            WHERE g.user_id = :userId %s
+            ORDER BY c.completed_at, c.id
+            LIMIT :limit
+            """;
+    private static final String COMPLETIONS_AFTER = "AND (c.completed_at, c.id) > (:afterAt, :afterId)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    public GoalExportService(NamedParameterJdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             ObjectMapper objectMapper,
+                             @Value("${custom.goalExport.chunkSize:500}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    // out 은 닫지 않음 (호출 측 소유)
+    public void export(UUID userId, GoalExportFormat format, OutputStream out) {
+        try (ExportWriter writer = format == GoalExportFormat.CSV ? new CsvWriter(out) : new NdjsonWriter(objectMapper, out)) {
+            exportInChunks(userId, GOALS_SQL, GOALS_AFTER,
+                    (rs, i) -> new GoalRow(rs.getObject("id", UUID.class), rs.getString("title"), rs.getTimestamp("created_at")),
+                    row -> Map.of("afterAt", row.createdAt(), "afterId", row.id()),
+                    row -> writer.goal(row.id(), row.title(), timestamp(row.createdAt())));
+            exportInChunks(userId, SUB_GOALS_SQL, SUB_GOALS_AFTER,
+                    (rs, i) -> new SubGoalRow(rs.getObject("id", UUID.class), rs.getObject("goal_id", UUID.class),
+                            rs.getString("title"), rs.getTimestamp("created_at")),
+                    row -> Map.of("afterGoalId", row.goalId(), "afterAt", row.createdAt(), "afterId", row.id()),
+                    row -> writer.subGoal(row.id(), row.goalId(), row.title(), timestamp(row.createdAt())));
+            exportInChunks(userId, SCHEDULE_DAYS_SQL, SCHEDULE_DAYS_AFTER,
+                    (rs, i) -> new ScheduleDayRow(rs.getObject("goal_id", UUID.class), rs.getInt("day_of_week")),
+                    row -> Map.of("afterGoalId", row.goalId(), "afterDay", row.dayOfWeek()),
+                    row -> writer.scheduleDay(row.goalId(), row.dayOfWeek()));
+            exportInChunks(userId, COMPLETIONS_SQL, COMPLETIONS_AFTER,
+                    (rs, i) -> new CompletionRow(rs.getLong("id"), rs.getObject("sub_goal_id", UUID.class), rs.getTimestamp("completed_at")),
+                    row -> Map.of("afterAt", row.completedAt(), "afterId", row.id()),
+                    row -> writer.completion(row.id(), row.subGoalId(), timestamp(row.completedAt())));
+        } catch (IOException e) {
+            // 클라이언트가 연결을 끊으면 다음 청크를 읽지 않고 중단
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 청크를 트랜잭션 안에서 읽어 두고, 트랜잭션(커넥션)을 돌려준 뒤 응답에 씀
+    private <T> void exportInChunks(UUID userId, String sql, String afterCondition, RowMapper<T> rowMapper,
+                                    Function<T, Map<String, Object>> keyOf, RowWriter<T> rowWriter) throws IOException {
+        Map<String, Object> after = null;
+        while (true) {
+            Map<String, Object> params = new HashMap<>();
+            params.put("userId", userId);
+            params.put("limit", chunkSize);
+            if (after != null) params.putAll(after);
+            String query = sql.formatted(after == null ? "" : afterCondition);
+
+            List<T> chunk = transactionTemplate.execute(status -> jdbcTemplate.query(query, params, rowMapper));
+            if (chunk == null) return;
+            for (T row : chunk) {
+                rowWriter.write(row);
+            }
+            if (chunk.size() < chunkSize) return; // 마지막 청크
+            after = keyOf.apply(chunk.getLast());
+        }
+    }
+
+    private static String timestamp(Timestamp value) {
+        return value == null ? null : value.toLocalDateTime().toString();
+    }
+
+    private record GoalRow(UUID id, String title, Timestamp createdAt) {
+    }
+
+    private record SubGoalRow(UUID id, UUID goalId, String title, Timestamp createdAt) {
+    }
+
+    private record ScheduleDayRow(UUID goalId, int dayOfWeek) {
+    }
+
+    private record CompletionRow(long id, UUID subGoalId, Timestamp completedAt) {
+    }
+
+    @FunctionalInterface
+    private interface RowWriter<T> {
+        void write(T row) throws IOException;
+    }
+
+    private interface ExportWriter extends AutoCloseable {
+        void goal(UUID id, String title, String createdAt) throws IOException;
+
+        void subGoal(UUID id, UUID goalId, String title, String createdAt) throws IOException;
+
+        void scheduleDay(UUID goalId, int dayOfWeek) throws IOException;
+
+        void completion(long id, UUID subGoalId, String completedAt) throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    // 한 줄에 레코드 하나, type 필드로 구분
+    private static final class NdjsonWriter implements ExportWriter {
+
+        private final JsonGenerator generator;
+
+        NdjsonWriter(ObjectMapper objectMapper, OutputStream out) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // 최상위 값 사이 기본 구분자(공백) 대신 줄바꿈만
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void goal(UUID id, String title, String createdAt) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("type", "goal");
+            generator.writeStringField("id", id.toString());
+            generator.writeStringField("title", title);
+            generator.writeStringField("createdAt", createdAt);
+            end();
+        }
+
+        @Override
+        public void subGoal(UUID id, UUID goalId, String title, String createdAt) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("type", "subGoal");
+            generator.writeStringField("id", id.toString());
+            generator.writeStringField("goalId", goalId.toString());
+            generator.writeStringField("title", title);
+            generator.writeStringField("createdAt", createdAt);
+            end();
+        }
+
+        @Override
+        public void scheduleDay(UUID goalId, int dayOfWeek) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("type", "scheduleDay");
+            generator.writeStringField("goalId", goalId.toString());
+            generator.writeNumberField("dayOfWeek", dayOfWeek);
+            end();
+        }
+
+        @Override
+        public void completion(long id, UUID subGoalId, String completedAt) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("type", "completion");
+            generator.writeNumberField("id", id);
+            generator.writeStringField("subGoalId", subGoalId.toString());
+            generator.writeStringField("completedAt", completedAt);
+            end();
+        }
+
+        private void end() throws IOException {
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    // 모든 레코드가 같은 열을 쓰고 해당 없는 열은 비움
+    private static final class CsvWriter implements ExportWriter {
+
+        private static final String HEADER = "type,id,goalId,subGoalId,title,dayOfWeek,timestamp\n";
+
+        private final Writer writer;
+
+        CsvWriter(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            this.writer.write(HEADER);
+        }
+
+        @Override
+        public void goal(UUID id, String title, String createdAt) throws IOException {
+            row("goal", id.toString(), id.toString(), null, title, null, createdAt);
+        }
+
+        @Override
+        public void subGoal(UUID id, UUID goalId, String title, String createdAt) throws IOException {
+            row("subGoal", id.toString(), goalId.toString(), id.toString(), title, null, createdAt);
+        }
+
+        @Override
+        public void scheduleDay(UUID goalId, int dayOfWeek) throws IOException {
+            row("scheduleDay", null, goalId.toString(), null, null, Integer.toString(dayOfWeek), null);
+        }
+
+        @Override
+        public void completion(long id, UUID subGoalId, String completedAt) throws IOException {
+            row("completion", Long.toString(id), null, subGoalId.toString(), null, null, completedAt);
+        }
+
+        private void row(String... columns) throws IOException {
+            for (int i = 0; i < columns.length; i++) {
+                if (i > 0) writer.write(',');
+                if (columns[i] != null) writeEscaped(columns[i]);
+            }
+            writer.write('\n');
+        }
+
+        // 스프레드시트가 수식으로 해석하는 시작 문자 (CSV injection)
+        private static boolean isFormulaStart(char c) {
+            return c == '=' || c == '+' || c == '-' || c == '@' || c == '\t' || c == '\r';
+        }
+
+        // 수식으로 시작하는 값은 앞에 ' 를 붙여 텍스트로 취급되게 함
+        // RFC 4180: 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번
+        private void writeEscaped(String value) throws IOException {
+            if (!value.isEmpty() && isFormulaStart(value.charAt(0))) {
+                value = "'" + value;
+            }
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        // 응답 스트림은 닫지 않고 버퍼만 비움
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.back.domain.goal.service;
+
+import com.back.domain.goal.dto.GoalTreeDto;
+import com.back.domain.goal.entity.Goal;
+import com.back.domain.goal.repository.GoalRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class GoalQueryService {
+
+    private final GoalRepository goalRepository;
+
+    // 사용자의 목표 트리 (쿼리 1회 고정)
+    @Transactional(readOnly = true)
+    public List<GoalTreeDto> getGoalTree(UUID userId) {
+        List<Goal> goals = goalRepository.findAllWithSubGoalsByUserId(userId);
+
+        return goals.stream()
+                .map(GoalTreeDto::from)
+                .toList();
+    }
+
+    // 조회 API ETag: 본문을 만들지 않고 목표 버전만으로 계산 (URL 별로 비교되므로 쿼리 파라미터는 넣지 않음)
+    // 오늘의 목표, 달성 이력: 사용자 목표 리비전(증가만 함) + 날짜 (날짜가 바뀌면 오늘의 목표도 바뀜)
+    @Transactional(readOnly = true)
+    public String revisionETag(UUID userId, LocalDate date) {
+        long revision = goalRepository.findRevision(userId).orElse(0L);
+        return "W/\"goals-%s-%d\"".formatted(date, revision);
+    }
+
+    // 목표 통계: 해당 목표 버전 + 날짜 (남의 목표 / 없는 목표면 empty → 본 조회에서 404)
+    @Transactional(readOnly = true)
+    public Optional<String> statsETag(UUID userId, UUID goalId, LocalDate date) {
+        return goalRepository.findVersion(goalId, userId)
+                .map(version -> "W/\"goal-%s-%d-%s\"".formatted(goalId, version, date));
+    }
+}
@@ -0,0 +1,88 @@
+package com.back.domain.goal.service;
+
+import com.back.domain.goal.repository.GoalRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * goal_daily_stats / goal_streaks 를 sub_goal_completions 로부터 처음부터 다시 만든다.
+ * - 목표 ID 키셋 순서로 청크 단위 처리, 청크마다 별도 트랜잭션
+ * - 다시 만든 목표는 버전도 올려 통계 조회 ETag 가 바뀌도록 함
+ * - 집계 도입 전 데이터 채우기, 집계가 어긋났을 때 복구용
+ * - custom.goalStats.backfill.onStartup=true 면 기동 시 1회 실행
+ */
+@Slf4j
+@Component
+public class GoalStatsBackfillJob implements ApplicationRunner {
+
+    private static final String FIRST_CHUNK_SQL = "SELECT id FROM goals ORDER BY id LIMIT :limit";
+    private static final String NEXT_CHUNK_SQL = "SELECT id FROM goals WHERE id > :after ORDER BY id LIMIT :limit";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final GoalStatsService goalStatsService;
+    private final GoalRepository goalRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final boolean backfillOnStartup;
+
+    public GoalStatsBackfillJob(NamedParameterJdbcTemplate jdbcTemplate,
+                                GoalStatsService goalStatsService,
+                                GoalRepository goalRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${custom.goalStats.backfill.chunkSize:200}") int chunkSize,
+                                @Value("${custom.goalStats.backfill.onStartup:false}") boolean backfillOnStartup) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.goalStatsService = goalStatsService;
+        this.goalRepository = goalRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.backfillOnStartup = backfillOnStartup;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (backfillOnStartup) backfill();
+    }
+
+    public BackfillResult backfill() {
+        long startedAt = System.nanoTime();
+        long goals = 0;
+        int chunks = 0;
+        UUID after = null;
+
+        while (true) {
+            List<UUID> goalIds = after == null
+                    ? jdbcTemplate.queryForList(FIRST_CHUNK_SQL, Map.of("limit", chunkSize), UUID.class)
+                    : jdbcTemplate.queryForList(NEXT_CHUNK_SQL, Map.of("after", after, "limit", chunkSize), UUID.class);
+            if (goalIds.isEmpty()) break;
+
+            transactionTemplate.executeWithoutResult(status -> {
+                goalStatsService.rebuild(goalIds);
+                goalRepository.touch(goalIds); // 통계 ETag (goals.version) 갱신
+            });
+
+            goals += goalIds.size();
+            chunks++;
+            after = goalIds.get(goalIds.size() - 1);
+            if (goalIds.size() < chunkSize) break; // 마지막 청크
+        }
+
+        BackfillResult result = new BackfillResult(goals, chunks, Duration.ofNanos(System.nanoTime() - startedAt));
+        log.info("목표 통계 백필 완료 - 목표: {}개, 청크: {}, 소요: {}ms", result.goals(), result.chunks(), result.duration().toMillis());
+        return result;
+    }
+
+    public record BackfillResult(long goals, int chunks, Duration duration) {
+    }
+}
@@ -0,0 +1,222 @@
+package com.back.domain.goal.service;
+
+import com.back.domain.goal.dto.GoalStatsDto;
+import com.back.domain.goal.entity.Goal;
+import com.back.domain.goal.entity.GoalDailyStat;
+import com.back.domain.goal.entity.GoalStreak;
+import com.back.domain.goal.entity.WeekMask;
+import com.back.domain.goal.repository.GoalDailyStatRepository;
+import com.back.domain.goal.repository.GoalRepository;
+import com.back.domain.goal.repository.GoalStreakRepository;
+import com.back.global.exception.ServiceException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 목표별 달성 집계 (goal_daily_stats, goal_streaks)
+ * - 달성 기록 저장과 같은 트랜잭션에서 날짜별 건수와 연속 기록을 증분 갱신
+ * - 조회: 연속 기록 O(1), N주 달성률 O(N주) (달성 이력 전체를 훑지 않음)
+ * - 수행 요일은 goals.schedule_mask (WeekMask) 로 판정, goal_schedule_days 조인 없음
+ * - 과거 날짜가 끼어드는 경우(오프라인 동기화)에만 해당 목표의 날짜별 집계로 연속 기록을 다시 계산
+ * - 달성 기록이 사라지는 경우(서브 목표 삭제, 백필)는 날짜별 집계부터 sub_goal_completions 로 다시 계산
+ */
+@Service
+@RequiredArgsConstructor
+public class GoalStatsService {
+
+    private static final String INCREMENT_SQL = """
+            UPDATE goal_daily_stats SET completions = completions + :count
+            WHERE goal_id = :goalId AND stat_date = :statDate
+            """;
+    private static final String INSERT_SQL = """
+            INSERT INTO goal_daily_stats (goal_id, stat_date, completions) VALUES (:goalId, :statDate, :count)
+            """;
+    private static final String COMPLETED_DATES_SQL = """
+            SELECT goal_id, stat_date FROM goal_daily_stats
+            WHERE goal_id IN (:goalIds) AND completions > 0
+            ORDER BY goal_id, stat_date
+            """;
+    private static final String DELETE_DAILY_SQL = "DELETE FROM goal_daily_stats WHERE goal_id IN (:goalIds)";
+    private static final String REBUILD_DAILY_SQL = """
+            INSERT INTO goal_daily_stats (goal_id, stat_date, completions)
+            SELECT s.goal_id, CAST(c.completed_at AS DATE), COUNT(*)
+            FROM sub_goal_completions c
+            JOIN goals_sub s ON s.id = c.sub_goal_id
+            WHERE s.goal_id IN (:goalIds)
+            GROUP BY s.goal_id, CAST(c.completed_at AS DATE)
+            """;
+
+    private final GoalRepository goalRepository;
+    private final GoalStreakRepository goalStreakRepository;
+    private final GoalDailyStatRepository goalDailyStatRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    // 새 달성 기록 반영 (목표별 달성 날짜 목록, 같은 날짜 여러 번 가능)
+    @Transactional
+    public void applyCompletions(Map<UUID, List<LocalDate>> completionDatesByGoal) {
+        if (completionDatesByGoal.isEmpty()) return;
+
+        List<DayCount> counts = new ArrayList<>();
+        completionDatesByGoal.forEach((goalId, dates) -> {
+            Map<LocalDate, Integer> perDay = new TreeMap<>();
+            dates.forEach(date -> perDay.merge(date, 1, Integer::sum));
+            perDay.forEach((date, count) -> counts.add(new DayCount(goalId, date, count)));
+        });
+
+        // 1. 있는 날은 건수 증가, 없는 날만 INSERT (모두 배치) — 새로 생긴 날만 연속 기록에 영향
+        int[] updated = jdbcTemplate.batchUpdate(INCREMENT_SQL, params(counts));
+        List<DayCount> newDays = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) newDays.add(counts.get(i));
+        }
+        if (newDays.isEmpty()) return;
+        jdbcTemplate.batchUpdate(INSERT_SQL, params(newDays));
+
+        Map<UUID, List<LocalDate>> newDatesByGoal = new HashMap<>();
+        newDays.forEach(day -> newDatesByGoal.computeIfAbsent(day.goalId(), k -> new ArrayList<>()).add(day.statDate()));
+
+        // 2. 연속 기록 증분 갱신 (마지막 달성일 이후 날짜만 이어 붙일 수 있음)
+        Map<UUID, WeekMask> scheduleMasks = loadScheduleMasks(newDatesByGoal.keySet());
+        Map<UUID, GoalStreak> streaks = loadStreaks(newDatesByGoal.keySet());
+        Set<UUID> rebuild = new HashSet<>();
+
+        newDatesByGoal.forEach((goalId, newDates) -> {
+            WeekMask mask = scheduleMasks.getOrDefault(goalId, WeekMask.EVERY_DAY);
+            GoalStreak streak = streaks.get(goalId);
+            List<LocalDate> scheduled = newDates.stream()
+                    .filter(mask::isScheduled)
+                    .sorted()
+                    .toList();
+
+            for (LocalDate date : scheduled) {
+                if (streak.getLastCompletedDate() != null && !date.isAfter(streak.getLastCompletedDate())) {
+                    rebuild.add(goalId);
+                    return;
+                }
+                extend(streak, mask, date);
+            }
+        });
+
+        goalStreakRepository.saveAll(streaks.values().stream()
+                .filter(streak -> !rebuild.contains(streak.getGoalId()))
+                .toList());
+        rebuildStreaks(rebuild);
+    }
+
+    // 날짜별 집계를 달성 기록으로 다시 만든 뒤 연속 기록 재계산 (서브 목표 삭제, 백필)
+    @Transactional
+    public void rebuild(Collection<UUID> goalIds) {
+        if (goalIds.isEmpty()) return;
+
+        Map<String, Object> params = Map.of("goalIds", goalIds);
+        jdbcTemplate.update(DELETE_DAILY_SQL, params);
+        jdbcTemplate.update(REBUILD_DAILY_SQL, params);
+        rebuildStreaks(goalIds);
+    }
+
+    // 날짜별 집계로 연속 기록 재계산 (과거 날짜 삽입, 수행 요일 변경, 백필)
+    @Transactional
+    public void rebuildStreaks(Collection<UUID> goalIds) {
+        if (goalIds.isEmpty()) return;
+
+        Map<UUID, WeekMask> scheduleMasks = loadScheduleMasks(goalIds);
+        Map<UUID, GoalStreak> streaks = loadStreaks(goalIds);
+        streaks.values().forEach(streak -> {
+            streak.setCurrentStreak(0);
+            streak.setBestStreak(0);
+            streak.setLastCompletedDate(null);
+        });
+
+        jdbcTemplate.query(COMPLETED_DATES_SQL, Map.of("goalIds", goalIds), rs -> {
+            UUID goalId = rs.getObject("goal_id", UUID.class);
+            LocalDate date = rs.getDate("stat_date").toLocalDate();
+            WeekMask mask = scheduleMasks.getOrDefault(goalId, WeekMask.EVERY_DAY);
+            if (mask.isScheduled(date)) {
+                extend(streaks.get(goalId), mask, date);
+            }
+        });
+
+        goalStreakRepository.saveAll(streaks.values());
+    }
+
+    @Transactional(readOnly = true)
+    public GoalStatsDto getStats(UUID userId, UUID goalId, int weeks, LocalDate today) {
+        if (weeks < 1 || weeks > 52) {
+            throw new ServiceException(400, "weeks 는 1~52 사이여야 합니다.");
+        }
+        Goal goal = goalRepository.findById(goalId)
+                .filter(found -> found.getUserId().equals(userId))
+                .orElseThrow(() -> new ServiceException(404, "목표를 찾을 수 없습니다."));
+        WeekMask mask = goal.getScheduleMask();
+
+        GoalStreak streak = goalStreakRepository.findById(goalId).orElse(null);
+        int bestStreak = streak != null ? streak.getBestStreak() : 0;
+        LocalDate lastCompletedDate = streak != null ? streak.getLastCompletedDate() : null;
+        int currentStreak = streak != null
+                ? StreakCalculator.currentStreakAsOf(mask, lastCompletedDate, streak.getCurrentStreak(), today)
+                : 0;
+
+        // 최근 N주 (오늘 포함 7N일), 오늘은 달성했을 때만 분모에 포함
+        LocalDate from = today.minusDays(7L * weeks - 1);
+        Set<LocalDate> completed = new HashSet<>();
+        for (GoalDailyStat stat : goalDailyStatRepository.findAllByGoalIdAndStatDateBetween(goalId, from, today)) {
+            if (stat.getCompletions() > 0 && mask.isScheduled(stat.getStatDate())) {
+                completed.add(stat.getStatDate());
+            }
+        }
+        int scheduledDays = mask.countScheduled(from, today.minusDays(1));
+        if (completed.contains(today)) scheduledDays++;
+
+        return GoalStatsDto.builder()
+                .goalId(goalId)
+                .currentStreak(currentStreak)
+                .bestStreak(bestStreak)
+                .lastCompletedDate(lastCompletedDate)
+                .weeks(weeks)
+                .scheduledDays(scheduledDays)
+                .completedDays(completed.size())
+                .completionRate(scheduledDays == 0 ? 0.0 : (double) completed.size() / scheduledDays)
+                .build();
+    }
+
+    private static void extend(GoalStreak streak, WeekMask scheduleMask, LocalDate date) {
+        LocalDate last = streak.getLastCompletedDate();
+        boolean consecutive = last != null && scheduleMask.nextScheduledAfter(last).equals(date);
+        streak.setCurrentStreak(consecutive ? streak.getCurrentStreak() + 1 : 1);
+        streak.setBestStreak(Math.max(streak.getBestStreak(), streak.getCurrentStreak()));
+        streak.setLastCompletedDate(date);
+    }
+
+    private Map<UUID, WeekMask> loadScheduleMasks(Collection<UUID> goalIds) {
+        Map<UUID, WeekMask> result = new HashMap<>();
+        goalRepository.findScheduleMasks(goalIds).forEach(view -> result.put(view.getGoalId(), view.getScheduleMask()));
+        return result;
+    }
+
+    // 없는 목표는 새 행으로 (version null → persist)
+    private Map<UUID, GoalStreak> loadStreaks(Collection<UUID> goalIds) {
+        Map<UUID, GoalStreak> result = new HashMap<>();
+        goalStreakRepository.findAllById(goalIds).forEach(streak -> result.put(streak.getGoalId(), streak));
+        goalIds.forEach(goalId -> result.computeIfAbsent(goalId, id -> GoalStreak.builder().goalId(id).build()));
+        return result;
+    }
+
+    private static Map<String, Object>[] params(List<DayCount> days) {
+        @SuppressWarnings("unchecked")
+        Map<String, Object>[] params = new Map[days.size()];
+        for (int i = 0; i < days.size(); i++) {
+            DayCount day = days.get(i);
+            params[i] = Map.of("goalId", day.goalId(), "statDate", Date.valueOf(day.statDate()), "count", day.count());
+        }
+        return params;
+    }
+
+    private record DayCount(UUID goalId, LocalDate statDate, int count) {
+    }
+}
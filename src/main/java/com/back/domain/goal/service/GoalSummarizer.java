@@ -0,0 +1,11 @@
+package com.back.domain.goal.service;
+
+/**
+ * 목표 요약 문장 생성기
+ * 기본은 TemplateGoalSummarizer, 다른 구현(LLM 등)을 쓰려면 @Primary 빈으로 등록
+ * GoalSummaryPipeline 의 작업 스레드에서만 호출되므로 느려도 요청 스레드는 기다리지 않음
+ */
+public interface GoalSummarizer {
+
+    String summarize(GoalSummarySource source);
+}
@@ -0,0 +1,197 @@
+package com.back.domain.goal.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 목표 요약 비동기 재생성
+ * - 달성 기록 커밋 후 목표 ID 만 대기열에 넣고 바로 반환 (요청 스레드는 요약 생성을 기다리지 않음)
+ * - 디바운스: 목표별 마지막 요청 후 debounceMs 동안 조용하면 실행, 계속 들어와도 maxWaitMs 가 지나면 실행
+ * - 배압: 작업 큐가 차면 대기열에 남겨 다음 dispatch 때 다시 시도, 대기열이 maxPending 을 넘으면 버리고 sweep 이 복구
+ * - 같은 목표는 동시에 두 번 실행하지 않음
+ * - sweep: 요약이 없거나 달성 건수가 바뀐 목표를 주기적으로 찾아 대기열에 추가 (재시작, 유실 복구)
+ */
+@Slf4j
+@Component
+public class GoalSummaryPipeline {
+
+    private final GoalSummaryService goalSummaryService;
+    private final boolean enabled;
+    private final long debounceNanos;
+    private final long maxWaitNanos;
+    private final int maxPending;
+    private final int sweepBatchSize;
+    private final ThreadPoolExecutor workers;
+
+    private final Map<UUID, Pending> pending = new ConcurrentHashMap<>();
+    private final Set<UUID> running = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    public GoalSummaryPipeline(GoalSummaryService goalSummaryService,
+                               @Value("${custom.summary.enabled:true}") boolean enabled,
+                               @Value("${custom.summary.workers:2}") int workers,
+                               @Value("${custom.summary.queueCapacity:100}") int queueCapacity,
+                               @Value("${custom.summary.debounceMs:5000}") long debounceMs,
+                               @Value("${custom.summary.maxWaitMs:60000}") long maxWaitMs,
+                               @Value("${custom.summary.maxPending:10000}") int maxPending,
+                               @Value("${custom.summary.sweepBatchSize:200}") int sweepBatchSize) {
+        this.goalSummaryService = goalSummaryService;
+        this.enabled = enabled;
+        this.debounceNanos = TimeUnit.MILLISECONDS.toNanos(debounceMs);
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        this.maxPending = maxPending;
+        this.sweepBatchSize = sweepBatchSize;
+        this.workers = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("goal-summary-", 0).daemon().factory());
+    }
+
+    // 달성 기록이 바뀐 목표 (트랜잭션 안이면 커밋 후 등록)
+    public void request(Collection<UUID> goalIds) {
+        if (!enabled || goalIds.isEmpty()) return;
+        List<UUID> ids = List.copyOf(goalIds);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(ids, System.nanoTime(), false);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(ids, System.nanoTime(), false);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${custom.summary.dispatchIntervalMs:1000}")
+    public void dispatch() {
+        if (enabled) dispatch(System.nanoTime());
+    }
+
+    @Scheduled(initialDelayString = "${custom.summary.sweepInitialDelayMs:60000}",
+            fixedDelayString = "${custom.summary.sweepIntervalMs:600000}")
+    public void sweep() {
+        // 대기열이 이미 많이 밀려 있으면 건너뜀
+        if (!enabled || pending.size() >= maxPending / 2) return;
+        try {
+            List<UUID> stale = goalSummaryService.findStaleGoalIds(sweepBatchSize, LocalDate.now());
+            enqueue(stale, System.nanoTime(), true);
+            if (!stale.isEmpty()) log.debug("목표 요약 sweep - {}건 대기열 추가", stale.size());
+        } catch (RuntimeException e) {
+            log.warn("목표 요약 sweep 실패: {}", e.getMessage());
+        }
+    }
+
+    // 실행할 때가 된 목표를 작업 큐에 넣음 (큐가 차면 중단)
+    int dispatch(long now) {
+        int submitted = 0;
+        for (Map.Entry<UUID, Pending> entry : pending.entrySet()) {
+            if (workers.getQueue().remainingCapacity() == 0) break;
+
+            UUID goalId = entry.getKey();
+            Pending p = entry.getValue();
+            if (!p.isDue(now, debounceNanos, maxWaitNanos) || running.contains(goalId)) continue;
+            if (!pending.remove(goalId, p)) continue;
+
+            running.add(goalId);
+            try {
+                workers.execute(() -> run(goalId));
+                submitted++;
+            } catch (RejectedExecutionException e) {
+                // 다른 dispatch 와 겹쳐 큐가 찬 경우, 되돌려 두고 다음에
+                running.remove(goalId);
+                pending.putIfAbsent(goalId, p);
+                break;
+            }
+        }
+        return submitted;
+    }
+
+    private void run(UUID goalId) {
+        try {
+            goalSummaryService.regenerate(goalId, LocalDate.now());
+            completed.incrementAndGet();
+        } catch (RuntimeException e) {
+            // 실패한 목표는 다음 sweep 에서 다시 대상이 됨
+            failed.incrementAndGet();
+            log.warn("목표 요약 생성 실패 goalId: {} - {}", goalId, e.getMessage());
+        } finally {
+            running.remove(goalId);
+        }
+    }
+
+    private void enqueue(Collection<UUID> goalIds, long now, boolean immediate) {
+        for (UUID goalId : goalIds) {
+            if (pending.size() >= maxPending && !pending.containsKey(goalId)) {
+                dropped.incrementAndGet();
+                continue;
+            }
+            requested.incrementAndGet();
+            Pending next = immediate ? new Pending(now - maxWaitNanos, now - debounceNanos) : new Pending(now, now);
+            pending.merge(goalId, next, (prev, cur) -> immediate ? cur : new Pending(prev.firstAt(), now));
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(pending.size(), running.size(), workers.getQueue().size(),
+                requested.get(), completed.get(), failed.get(), dropped.get());
+    }
+
+    // 진행 중인 작업이 끝날 때까지 대기 (테스트, 종료용)
+    boolean awaitIdle(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (!running.isEmpty() || !workers.getQueue().isEmpty()) {
+            if (System.nanoTime() > deadline) return false;
+            Thread.sleep(10);
+        }
+        return true;
+    }
+
+    @Scheduled(fixedRateString = "${custom.summary.statsLogIntervalMs:600000}")
+    public void logStats() {
+        if (!enabled) return;
+        Stats stats = stats();
+        log.info("GoalSummaryPipeline stats - pending: {}, running: {}, queued: {}, requested: {}, completed: {}, failed: {}, dropped: {}",
+                stats.pending(), stats.running(), stats.queued(), stats.requested(), stats.completed(), stats.failed(), stats.dropped());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) workers.shutdownNow();
+    }
+
+    // firstAt: 대기열에 처음 들어온 시각, lastAt: 마지막 요청 시각 (nanoTime)
+    private record Pending(long firstAt, long lastAt) {
+
+        boolean isDue(long now, long debounceNanos, long maxWaitNanos) {
+            return now - lastAt >= debounceNanos || now - firstAt >= maxWaitNanos;
+        }
+    }
+
+    public record Stats(int pending, int running, int queued,
+                        long requested, long completed, long failed, long dropped) {
+    }
+}
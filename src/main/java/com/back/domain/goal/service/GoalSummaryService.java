@@ -0,0 +1,101 @@
+package com.back.domain.goal.service;
+
+import com.back.domain.goal.dto.GoalStatsDto;
+import com.back.domain.goal.entity.Goal;
+import com.back.domain.goal.entity.SubGoal;
+import com.back.domain.goal.entity.Summary;
+import com.back.domain.goal.repository.GoalRepository;
+import com.back.domain.goal.repository.SubGoalCompletionRepository;
+import com.back.domain.goal.repository.SummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 목표 요약 생성 / 저장 (GoalSummaryPipeline 작업 스레드에서 호출)
+ * 요약의 completion_count 와 goal_daily_stats 합계가 다르면 달성 기록이 바뀐 것
+ * 연속 달성/최근 N주 문장은 날짜 기준이라 generated_on 이 오늘 이전이어도 다시 생성
+ */
+@Service
+@RequiredArgsConstructor
+public class GoalSummaryService {
+
+    static final int SUMMARY_WEEKS = 4;
+
+    private static final String TOTAL_COMPLETIONS_SQL =
+            "SELECT COALESCE(SUM(completions), 0) FROM goal_daily_stats WHERE goal_id = :goalId";
+    private static final String STALE_GOALS_SQL = """
+            SELECT t.goal_id FROM (
+                SELECT goal_id, SUM(completions) AS total FROM goal_daily_stats GROUP BY goal_id
+            ) t
+            LEFT JOIN summary s ON s.goal_id = t.goal_id
+            WHERE s.goal_id IS NULL OR s.completion_count <> t.total OR s.generated_on < :today
+            LIMIT :limit
+            """;
+
+    private final GoalRepository goalRepository;
+    private final SubGoalCompletionRepository subGoalCompletionRepository;
+    private final SummaryRepository summaryRepository;
+    private final GoalStatsService goalStatsService;
+    private final GoalSummarizer goalSummarizer;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void regenerate(UUID goalId, LocalDate today) {
+        Optional<Goal> found = goalRepository.findById(goalId);
+        if (found.isEmpty()) {
+            summaryRepository.findByGoalId(goalId).ifPresent(summaryRepository::delete);
+            return;
+        }
+        Goal goal = found.get();
+
+        GoalSummarySource source = loadSource(goal, today);
+        String content = goalSummarizer.summarize(source);
+
+        Summary summary = summaryRepository.findByGoalId(goalId)
+                .orElseGet(() -> Summary.builder().goalId(goalId).build());
+        summary.setContent(content);
+        summary.setCompletionCount(source.totalCompletions());
+        summary.setGeneratedOn(today);
+        summaryRepository.save(summary);
+    }
+
+    // 요약이 없거나, 달성 건수가 바뀌었거나, today 이전 날짜 기준으로 만든 목표
+    @Transactional(readOnly = true)
+    public List<UUID> findStaleGoalIds(int limit, LocalDate today) {
+        return jdbcTemplate.queryForList(STALE_GOALS_SQL, Map.of("limit", limit, "today", today), UUID.class);
+    }
+
+    private GoalSummarySource loadSource(Goal goal, LocalDate today) {
+        List<SubGoal> subGoals = goal.getSubGoals();
+        Map<UUID, Long> counts = new HashMap<>();
+        if (!subGoals.isEmpty()) {
+            subGoalCompletionRepository.countBySubGoalIds(subGoals.stream().map(SubGoal::getId).toList())
+                    .forEach(count -> counts.put(count.getSubGoalId(), count.getCompletions()));
+        }
+        Long total = jdbcTemplate.queryForObject(TOTAL_COMPLETIONS_SQL, Map.of("goalId", goal.getId()), Long.class);
+        GoalStatsDto stats = goalStatsService.getStats(goal.getUserId(), goal.getId(), SUMMARY_WEEKS, today);
+
+        return new GoalSummarySource(
+                goal.getId(),
+                goal.getTitle(),
+                today,
+                total == null ? 0 : total,
+                stats.getCurrentStreak(),
+                stats.getBestStreak(),
+                SUMMARY_WEEKS,
+                stats.getScheduledDays(),
+                stats.getCompletedDays(),
+                subGoals.stream()
+                        .map(subGoal -> new GoalSummarySource.SubGoalCount(subGoal.getTitle(), counts.getOrDefault(subGoal.getId(), 0L)))
+                        .toList());
+    }
+}
@@ -0,0 +1,28 @@
+package com.back.domain.goal.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 요약 생성 입력 (같은 입력이면 같은 요약)
+ *
+ * @param date           기준일 (최근 N주 달성률 계산 기준)
+ * @param subGoals       서브 목표별 누적 달성 건수 (목표 트리 순서)
+ */
+public record GoalSummarySource(
+        UUID goalId,
+        String title,
+        LocalDate date,
+        long totalCompletions,
+        int currentStreak,
+        int bestStreak,
+        int weeks,
+        int scheduledDays,
+        int completedDays,
+        List<SubGoalCount> subGoals
+) {
+
+    public record SubGoalCount(String title, long completions) {
+    }
+}
@@ -0,0 +1,187 @@
+package com.back.domain.goal.service;
+
+import com.back.domain.goal.dto.GoalTreeDto;
+import com.back.domain.goal.dto.GoalTreeReqDto;
+import com.back.domain.goal.entity.Goal;
+import com.back.domain.goal.entity.SubGoal;
+import com.back.domain.goal.entity.WeekMask;
+import com.back.domain.goal.repository.GoalRepository;
+import com.back.global.exception.ServiceException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 목표 트리(목표 + 서브 목표 + 수행 요일) 일괄 생성 / 교체
+ * - 생성: 한 트랜잭션에서 goals, goals_sub, goal_schedule_days 를 각각 JDBC 배치 INSERT
+ * - 생성/교체/삭제 모두 사용자 목표 리비전을 올림 (조회 API ETag)
+ * - 교체: 저장된 트리와 비교해 바뀐 행만 INSERT / UPDATE / DELETE (같은 내용이면 쓰기 없음)
+ *   수행 요일은 마스크로 비교하므로 바뀌지 않으면 goal_schedule_days 를 읽지도 않음
+ *   서브 목표가 삭제되면 달성 기록도 함께 지워지므로 목표 달성 집계를 다시 계산
+ */
+@Service
+@RequiredArgsConstructor
+public class GoalTreeService {
+
+    static final int MAX_GOALS_PER_REQUEST = 20;
+    static final int MAX_SUB_GOALS_PER_GOAL = 50;
+    private static final int MAX_TITLE_LENGTH = 255;
+
+    private final GoalRepository goalRepository;
+    private final GoalStatsService goalStatsService;
+    private final GoalAgendaCache goalAgendaCache;
+    private final GoalSummaryPipeline goalSummaryPipeline;
+
+    @Transactional
+    public List<GoalTreeDto> createAll(UUID userId, List<GoalTreeReqDto> trees) {
+        if (trees == null || trees.isEmpty()) {
+            throw new ServiceException(400, "생성할 목표가 없습니다.");
+        }
+        if (trees.size() > MAX_GOALS_PER_REQUEST) {
+            throw new ServiceException(400, "한 번에 최대 %d개까지 생성할 수 있습니다.".formatted(MAX_GOALS_PER_REQUEST));
+        }
+        trees.forEach(tree -> validate(tree, false));
+
+        List<Goal> goals = new ArrayList<>(trees.size());
+        for (GoalTreeReqDto tree : trees) {
+            Goal goal = Goal.builder().userId(userId).title(tree.getTitle()).build();
+            goal.setScheduleDays(scheduleDaysOf(tree));
+            subGoalsOf(tree).forEach(item -> goal.addSubGoal(item.getTitle()));
+            goals.add(goal);
+        }
+        goalRepository.saveAll(goals);
+        goalRepository.flush();
+        goalRepository.bumpRevision(userId);
+
+        goalAgendaCache.evictUser(userId);
+        return goals.stream().map(GoalTreeDto::from).toList();
+    }
+
+    @Transactional
+    public GoalTreeDto replace(UUID userId, UUID goalId, GoalTreeReqDto tree) {
+        validate(tree, true);
+        Goal goal = goalRepository.findById(goalId)
+                .filter(found -> found.getUserId().equals(userId))
+                .orElseThrow(() -> new ServiceException(404, "목표를 찾을 수 없습니다."));
+
+        boolean changed = false;
+        if (!goal.getTitle().equals(tree.getTitle())) {
+            goal.setTitle(tree.getTitle());
+            changed = true;
+        }
+
+        List<Integer> scheduleDays = scheduleDaysOf(tree);
+        boolean scheduleChanged = !WeekMask.of(scheduleDays).equals(goal.getScheduleMask());
+        if (scheduleChanged) {
+            goal.setScheduleDays(scheduleDays);
+            changed = true;
+        }
+
+        SubGoalDiff subGoalDiff = diffSubGoals(goal, subGoalsOf(tree));
+        changed |= subGoalDiff.changed();
+        if (!changed) return GoalTreeDto.from(goal);
+
+        goalRepository.flush();
+        // 서브 목표만 바뀐 경우에도 목표 버전 증가 (조회 API ETag)
+        goalRepository.touch(List.of(goalId));
+        if (subGoalDiff.removed()) {
+            // 삭제된 서브 목표의 달성 기록이 빠지므로 날짜별 집계부터 다시 계산 (연속 기록 포함)
+            goalStatsService.rebuild(List.of(goalId));
+        } else if (scheduleChanged) {
+            // 수행 요일이 바뀌면 연속 기록 기준이 달라지므로 날짜별 집계로 다시 계산
+            goalStatsService.rebuildStreaks(List.of(goalId));
+        }
+        goalAgendaCache.evictUser(userId);
+        goalSummaryPipeline.request(List.of(goalId));
+
+        return GoalTreeDto.from(goal);
+    }
+
+    @Transactional
+    public void delete(UUID userId, UUID goalId) {
+        Goal goal = goalRepository.findById(goalId)
+                .filter(found -> found.getUserId().equals(userId))
+                .orElseThrow(() -> new ServiceException(404, "목표를 찾을 수 없습니다."));
+
+        goalRepository.delete(goal);
+        goalRepository.flush();
+        goalRepository.bumpRevision(userId);
+        goalAgendaCache.evictUser(userId);
+    }
+
+    // 목록에 있는 기존 서브 목표는 제목만 비교, 없는 것은 삭제 (orphanRemoval), id 없는 항목은 추가
+    private static SubGoalDiff diffSubGoals(Goal goal, List<GoalTreeReqDto.SubGoalItem> items) {
+        Map<UUID, SubGoal> existing = new HashMap<>();
+        goal.getSubGoals().forEach(subGoal -> existing.put(subGoal.getId(), subGoal));
+
+        boolean changed = false;
+        Set<UUID> kept = new HashSet<>();
+        List<String> added = new ArrayList<>();
+        for (GoalTreeReqDto.SubGoalItem item : items) {
+            if (item.getId() == null) {
+                added.add(item.getTitle());
+                continue;
+            }
+            SubGoal subGoal = existing.get(item.getId());
+            if (subGoal == null || !kept.add(item.getId())) {
+                throw new ServiceException(400, "목표에 속한 서브 목표가 아니거나 중복되었습니다: " + item.getId());
+            }
+            if (!subGoal.getTitle().equals(item.getTitle())) {
+                subGoal.setTitle(item.getTitle());
+                changed = true;
+            }
+        }
+
+        boolean removed = goal.getSubGoals().removeIf(subGoal -> !kept.contains(subGoal.getId()));
+        added.forEach(goal::addSubGoal);
+        return new SubGoalDiff(changed || removed || !added.isEmpty(), removed);
+    }
+
+    private record SubGoalDiff(boolean changed, boolean removed) {
+    }
+
+    private static void validate(GoalTreeReqDto tree, boolean allowSubGoalIds) {
+        if (tree == null) throw new ServiceException(400, "목표 정보가 없습니다.");
+        validateTitle(tree.getTitle());
+
+        for (Integer day : scheduleDaysOf(tree)) {
+            if (day == null || day < 0 || day > 6) {
+                throw new ServiceException(400, "수행 요일은 0(일요일)~6(토요일)이어야 합니다.");
+            }
+        }
+
+        List<GoalTreeReqDto.SubGoalItem> subGoals = subGoalsOf(tree);
+        if (subGoals.size() > MAX_SUB_GOALS_PER_GOAL) {
+            throw new ServiceException(400, "서브 목표는 최대 %d개까지 만들 수 있습니다.".formatted(MAX_SUB_GOALS_PER_GOAL));
+        }
+        for (GoalTreeReqDto.SubGoalItem item : subGoals) {
+            if (item == null) throw new ServiceException(400, "서브 목표 정보가 없습니다.");
+            if (!allowSubGoalIds && item.getId() != null) {
+                throw new ServiceException(400, "새 목표의 서브 목표에는 id 를 지정할 수 없습니다.");
+            }
+            validateTitle(item.getTitle());
+        }
+    }
+
+    private static void validateTitle(String title) {
+        if (title == null || title.isBlank() || title.length() > MAX_TITLE_LENGTH) {
+            throw new ServiceException(400, "제목은 1~%d자여야 합니다.".formatted(MAX_TITLE_LENGTH));
+        }
+    }
+
+    private static List<Integer> scheduleDaysOf(GoalTreeReqDto tree) {
+        return tree.getScheduleDays() == null ? List.of() : tree.getScheduleDays();
+    }
+
+    private static List<GoalTreeReqDto.SubGoalItem> subGoalsOf(GoalTreeReqDto tree) {
+        return tree.getSubGoals() == null ? List.of() : tree.getSubGoals();
+    }
+}
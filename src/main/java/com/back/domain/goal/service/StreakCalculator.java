@@ -0,0 +1,22 @@
+package com.back.domain.goal.service;
+
+import com.back.domain.goal.entity.WeekMask;
+
+import java.time.LocalDate;
+
+/**
+ * 수행 요일 기준 연속 달성 계산
+ * - 수행 요일(WeekMask)만 센다. 수행 요일이 없으면 매일이 수행 요일
+ * - 수행 요일이 아닌 날의 달성은 연속 기록을 늘리지도 끊지도 않는다
+ */
+final class StreakCalculator {
+
+    private StreakCalculator() {
+    }
+
+    // 마지막 달성일 다음 수행 요일이 오늘 이전에 지나갔으면 연속 기록은 끊긴 것
+    static int currentStreakAsOf(WeekMask scheduleMask, LocalDate lastCompletedDate, int storedStreak, LocalDate today) {
+        if (lastCompletedDate == null) return 0;
+        return scheduleMask.nextScheduledAfter(lastCompletedDate).isBefore(today) ? 0 : storedStreak;
+    }
+}
@@ -0,0 +1,188 @@
+package com.back.domain.goal.service;
+
+import com.back.domain.goal.dto.CompletionBatchReqDto;
+import com.back.domain.goal.dto.CompletionBatchResDto;
+import com.back.domain.goal.entity.SubGoalCompletion;
+import com.back.domain.goal.repository.GoalRepository;
+import com.back.domain.goal.repository.SubGoalCompletionRepository;
+import com.back.domain.goal.repository.SubGoalRepository;
+import com.back.global.exception.ServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 서브 목표 달성 기록 일괄 저장 (오프라인 동기화)
+ * 요청 건수와 관계없이 소유권 확인 1회 + 중복 조회 1회 + 배치 INSERT
+ * completedAt 이 현재 + maxClockSkew 이후거나 목표 시작일(생성일) 이전이면 배치 전체를 400 으로 거절
+ */
+@Slf4j
+@Service
+public class SubGoalCompletionService {
+
+    private static final int MAX_CLIENT_EVENT_ID_LENGTH = 64;
+
+    private final SubGoalRepository subGoalRepository;
+    private final GoalRepository goalRepository;
+    private final SubGoalCompletionRepository subGoalCompletionRepository;
+    private final GoalStatsService goalStatsService;
+    private final GoalAgendaCache goalAgendaCache;
+    private final GoalSummaryPipeline goalSummaryPipeline;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxBatchSize;
+    private final Duration maxClockSkew;
+
+    public SubGoalCompletionService(SubGoalRepository subGoalRepository,
+                                    GoalRepository goalRepository,
+                                    SubGoalCompletionRepository subGoalCompletionRepository,
+                                    GoalStatsService goalStatsService,
+                                    GoalAgendaCache goalAgendaCache,
+                                    GoalSummaryPipeline goalSummaryPipeline,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${custom.completion.maxBatchSize:500}") int maxBatchSize,
+                                    @Value("${custom.completion.maxClockSkewSeconds:300}") long maxClockSkewSeconds) {
+        this.subGoalRepository = subGoalRepository;
+        this.goalRepository = goalRepository;
+        this.subGoalCompletionRepository = subGoalCompletionRepository;
+        this.goalStatsService = goalStatsService;
+        this.goalAgendaCache = goalAgendaCache;
+        this.goalSummaryPipeline = goalSummaryPipeline;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxBatchSize = maxBatchSize;
+        this.maxClockSkew = Duration.ofSeconds(maxClockSkewSeconds);
+    }
+
+    public CompletionBatchResDto recordBatch(UUID userId, List<CompletionBatchReqDto.Item> items) {
+        if (items == null || items.isEmpty()) {
+            return CompletionBatchResDto.builder().inserted(0).duplicates(0).rejected(List.of()).build();
+        }
+        if (items.size() > maxBatchSize) {
+            throw new ServiceException(400, "한 번에 최대 %d건까지 저장할 수 있습니다.".formatted(maxBatchSize));
+        }
+
+        try {
+            return transactionTemplate.execute(status -> insertNew(userId, items));
+        } catch (DataIntegrityViolationException | OptimisticLockingFailureException e) {
+            // 같은 이벤트 / 같은 목표 집계를 동시에 갱신한 요청과 경합한 경우, 상대 커밋이 보이므로 한 번 더 걸러서 저장
+            log.debug("완료 기록 동시 저장 충돌 - 재시도 userId: {}", userId);
+            return transactionTemplate.execute(status -> insertNew(userId, items));
+        }
+    }
+
+    private CompletionBatchResDto insertNew(UUID userId, List<CompletionBatchReqDto.Item> items) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime latestAllowed = now.plus(maxClockSkew);
+        List<String> rejected = new ArrayList<>();
+        int duplicates = 0;
+
+        // 1. 형식 검사 + 요청 안 중복 제거 (먼저 온 항목 유지)
+        Map<CompletionKey, CompletionBatchReqDto.Item> unique = new LinkedHashMap<>();
+        for (CompletionBatchReqDto.Item item : items) {
+            String clientEventId = item.getClientEventId();
+            if (item.getSubGoalId() == null || clientEventId == null || clientEventId.isBlank()
+                    || clientEventId.length() > MAX_CLIENT_EVENT_ID_LENGTH) {
+                rejected.add(clientEventId);
+                continue;
+            }
+            if (item.getCompletedAt() != null && item.getCompletedAt().isAfter(latestAllowed)) {
+                throw new ServiceException(400, "완료 시각이 현재보다 미래일 수 없습니다. (%s)".formatted(clientEventId));
+            }
+            if (unique.putIfAbsent(new CompletionKey(item.getSubGoalId(), clientEventId), item) != null) {
+                duplicates++;
+            }
+        }
+        if (unique.isEmpty()) {
+            return CompletionBatchResDto.builder().inserted(0).duplicates(duplicates).rejected(rejected).build();
+        }
+
+        Set<UUID> subGoalIds = new HashSet<>();
+        Set<String> clientEventIds = new HashSet<>();
+        unique.keySet().forEach(key -> {
+            subGoalIds.add(key.subGoalId());
+            clientEventIds.add(key.clientEventId());
+        });
+
+        // 2. 소유권 확인 (1회) + 서브 목표 → 목표 (집계용)
+        Map<UUID, UUID> goalIdBySubGoal = new HashMap<>();
+        Map<UUID, LocalDate> goalStartBySubGoal = new HashMap<>();
+        subGoalRepository.findOwned(subGoalIds, userId).forEach(owned -> {
+            goalIdBySubGoal.put(owned.getId(), owned.getGoalId());
+            if (owned.getGoalCreatedAt() != null) goalStartBySubGoal.put(owned.getId(), owned.getGoalCreatedAt().toLocalDate());
+        });
+
+        // 3. 이미 저장된 이벤트 (1회)
+        Set<CompletionKey> existing = new HashSet<>();
+        for (SubGoalCompletion completion : subGoalCompletionRepository.findAllByClientEvents(subGoalIds, clientEventIds)) {
+            existing.add(new CompletionKey(completion.getSubGoalId(), completion.getClientEventId()));
+        }
+
+        List<SubGoalCompletion> toInsert = new ArrayList<>(unique.size());
+        for (Map.Entry<CompletionKey, CompletionBatchReqDto.Item> entry : unique.entrySet()) {
+            CompletionKey key = entry.getKey();
+            if (!goalIdBySubGoal.containsKey(key.subGoalId())) {
+                rejected.add(key.clientEventId());
+            } else if (existing.contains(key)) {
+                duplicates++;
+            } else {
+                LocalDateTime completedAt = entry.getValue().getCompletedAt();
+                LocalDate goalStart = goalStartBySubGoal.get(key.subGoalId());
+                // 날짜 단위 비교 (오프라인에서 목표를 만들고 같은 날 바로 기록한 경우 허용)
+                if (completedAt != null && goalStart != null && completedAt.toLocalDate().isBefore(goalStart)) {
+                    throw new ServiceException(400, "완료 시각이 목표 시작일(%s)보다 이전일 수 없습니다. (%s)"
+                            .formatted(goalStart, key.clientEventId()));
+                }
+                toInsert.add(SubGoalCompletion.builder()
+                        .subGoalId(key.subGoalId())
+                        .clientEventId(key.clientEventId())
+                        .completedAt(completedAt != null ? completedAt : now)
+                        .build());
+            }
+        }
+
+        // 4. 배치 INSERT (flush 로 제약 위반을 여기서 드러냄) + 목표별 집계 증분 갱신 + 목표 버전 증가 (ETag)
+        //    커밋 후: 오늘의 목표 캐시 반영, 목표 요약 재생성 요청
+        if (!toInsert.isEmpty()) {
+            subGoalCompletionRepository.saveAll(toInsert);
+            subGoalCompletionRepository.flush();
+
+            Map<UUID, List<LocalDate>> completionDatesByGoal = new HashMap<>();
+            toInsert.forEach(completion -> completionDatesByGoal
+                    .computeIfAbsent(goalIdBySubGoal.get(completion.getSubGoalId()), k -> new ArrayList<>())
+                    .add(completion.getCompletedAt().toLocalDate()));
+            goalStatsService.applyCompletions(completionDatesByGoal);
+            goalRepository.touch(completionDatesByGoal.keySet());
+
+            Map<LocalDate, Set<UUID>> subGoalIdsByDate = new HashMap<>();
+            toInsert.forEach(completion -> subGoalIdsByDate
+                    .computeIfAbsent(completion.getCompletedAt().toLocalDate(), k -> new HashSet<>())
+                    .add(completion.getSubGoalId()));
+            goalAgendaCache.markCompleted(userId, subGoalIdsByDate);
+            goalSummaryPipeline.request(completionDatesByGoal.keySet());
+        }
+
+        return CompletionBatchResDto.builder()
+                .inserted(toInsert.size())
+                .duplicates(duplicates)
+                .rejected(rejected)
+                .build();
+    }
+
+    private record CompletionKey(UUID subGoalId, String clientEventId) {
+    }
+}
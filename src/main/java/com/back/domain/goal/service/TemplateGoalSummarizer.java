@@ -0,0 +1,40 @@
+package com.back.domain.goal.service;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 호출 없는 문장 템플릿 요약 (결정적: 같은 입력이면 같은 결과)
+ */
+@Component
+public class TemplateGoalSummarizer implements GoalSummarizer {
+
+    @Override
+    public String summarize(GoalSummarySource source) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("'").append(source.title()).append("' 목표를 총 ").append(source.totalCompletions()).append("회 달성했어요.");
+
+        if (source.currentStreak() > 0) {
+            sb.append(" 현재 ").append(source.currentStreak()).append("회 연속 달성 중이고");
+        } else {
+            sb.append(" 지금은 연속 기록이 끊겼고");
+        }
+        sb.append(" 최고 기록은 ").append(source.bestStreak()).append("회 연속이에요.");
+
+        if (source.scheduledDays() > 0) {
+            int rate = Math.round(100f * source.completedDays() / source.scheduledDays());
+            sb.append(" 최근 ").append(source.weeks()).append("주 동안 수행일 ").append(source.scheduledDays())
+                    .append("일 중 ").append(source.completedDays()).append("일을 지켰어요 (").append(rate).append("%).");
+        }
+
+        // 가장 많이 달성한 서브 목표 (같으면 목표 트리 순서상 앞선 것)
+        GoalSummarySource.SubGoalCount top = null;
+        for (GoalSummarySource.SubGoalCount subGoal : source.subGoals()) {
+            if (subGoal.completions() > 0 && (top == null || subGoal.completions() > top.completions())) top = subGoal;
+        }
+        if (top != null) {
+            sb.append(" 가장 꾸준한 서브 목표는 '").append(top.title()).append("' (").append(top.completions()).append("회)예요.");
+        }
+
+        return sb.toString();
+    }
+}
@@ -3,6 +3,7 @@ package com.back.domain.user.contorller;
 import com.back.domain.user.dto.RefreshTokenResDto;
 import com.back.domain.user.dto.UserMeResDto;
 import com.back.domain.user.service.UserAuthService;
+import com.back.global.rq.Rq;
 import com.back.global.rsData.RsData;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -25,6 +26,7 @@ import java.io.IOException;
 public class UserAuthController {
 
     private final UserAuthService userAuthService;
+    private final Rq rq;
 
     //400 Bad Request: 클라이언트가 잘못된 요청을 보냄 (형식 오류)
     //401 Unauthorized: 인증 실패 (토큰 없음/만료/유효하지 않음)
@@ -56,9 +58,12 @@ public class UserAuthController {
     @Operation(summary = "현재 로그인한 유저 정보 조회", description = "세션 유효성 검증 및 사용자 정보 반환")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "사용자 정보 조회"),
+            @ApiResponse(responseCode = "304", description = "If-None-Match 와 같음 (변경 없음)"),
     })
     @GetMapping("/me")
     public RsData<UserMeResDto> getCurrentUser() {
+        if (rq.checkNotModified(userAuthService.currentUserETag())) return null;
+
         UserMeResDto userInfo = userAuthService.getCurrentUser();
         return RsData.of(200, "인증된 유저 정보 반환 성공", userInfo);
     }
@@ -2,6 +2,7 @@ package com.back.domain.user.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import org.springframework.security.core.GrantedAuthority;
@@ -48,6 +49,16 @@ public class User {
     @Column(nullable = false, length = 20)
     private String role = "USER";
 
+    // 변경될 때마다 증가 (/user/auth/me ETag)
+    @Version
+    private Long version;
+
+    // 목표 생성/수정/삭제/달성 기록마다 증가하는 사용자 단위 리비전 (목표 조회 API ETag)
+    // GoalRepository 의 UPDATE 로만 바뀌므로 엔티티에서는 읽기 전용
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long goalRevision;
+
 
     @Override
     public boolean equals(Object o) {
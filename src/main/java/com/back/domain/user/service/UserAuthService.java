@@ -6,8 +6,8 @@ import com.back.domain.user.entity.User;
 import com.back.domain.user.repository.UserRepository;
 import com.back.global.exception.ServiceException;
 import com.back.global.jwt.JwtUtil;
-import com.back.global.jwt.refreshToken.entity.RefreshToken;
-import com.back.global.jwt.refreshToken.repository.RefreshTokenRepository;
+import com.back.global.jwt.refreshToken.dto.RotatedRefreshToken;
+import com.back.global.logging.LogRedactor;
 import com.back.global.jwt.refreshToken.service.RefreshTokenService;
 import com.back.global.rq.Rq;
 import com.back.global.rsData.RsData;
@@ -15,6 +15,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,9 +33,12 @@ public class UserAuthService {
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
     private final RefreshTokenService refreshTokenService;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserCache userCache;
     private final Rq rq;
 
+    @Value("${custom.security.stateless:true}")
+    private boolean stateless;
+
     //OAuth 관련
 
     public User joinSocial(String oauthId, String email, String nickname){
@@ -51,7 +55,9 @@ public class UserAuthService {
                 .oauthId(oauthId)
                 .build();
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        userCache.evict(saved.getId());
+        return saved;
     }
 
     @Transactional
@@ -63,6 +69,7 @@ public class UserAuthService {
             User user = existingUser.get();
             // null 체크 후 빈 문자열로 대체
             user.setEmail(email != null ? email : "");
+            userCache.evict(user.getId());
             return RsData.of(200, "회원 정보가 업데이트 되었습니다", user); //더티체킹
         } else {
             User newUser = joinSocial(oauthId, email, nickname);
@@ -76,7 +83,7 @@ public class UserAuthService {
         String accessToken = jwtUtil.generateAccessToken(userId, email, nickname);
         String refreshToken = refreshTokenService.generateRefreshToken(userId);
 
-        log.debug("토큰 발급 완료 - userId: {}, accessToken: {}, refreshToken: {}", userId, accessToken, refreshToken);
+        log.debug("토큰 발급 완료 - userId: {}, refreshToken: {}", userId, LogRedactor.mask(refreshToken));
 
         jwtUtil.addAccessTokenToCookie(response, accessToken);
         jwtUtil.addRefreshTokenToCookie(response, refreshToken);
@@ -85,36 +92,33 @@ public class UserAuthService {
     public RefreshTokenResDto refreshTokens(HttpServletRequest request, HttpServletResponse response) {
         try {
             String oldRefreshToken = jwtUtil.getRefreshTokenFromCookie(request);
-            log.debug("토큰 갱신 시도 - 받은 RefreshToken: {}", oldRefreshToken);
+            log.debug("토큰 갱신 시도 - 받은 RefreshToken: {}", LogRedactor.mask(oldRefreshToken));
 
             if (oldRefreshToken == null) {
                 log.error("RefreshToken이 쿠키에서 발견되지 않음");
                 return null;
             }
 
-            if (!refreshTokenService.validateToken(oldRefreshToken)) {
-                log.error("RefreshToken 검증 실패: {}", oldRefreshToken);
+            // 검증 + 회전 (기존 토큰 삭제 + 새 토큰 저장)
+            // jpa 저장소는 같은 트랜잭션에서 사용자도 조인해서 가져옴
+            RotatedRefreshToken rotated = refreshTokenService.rotate(oldRefreshToken);
+            if (rotated == null) {
+                log.error("RefreshToken 검증 실패");
                 return null;
             }
 
-            Optional<RefreshToken> tokenData = refreshTokenRepository.findByToken(oldRefreshToken);
-            if (tokenData.isEmpty()) {
-                return null;
+            // key-value 저장소는 사용자 정보가 없으므로 id 로 조회 (캐시 우선)
+            if (!rotated.ownerLoaded()) {
+                Optional<User> userOpt = userCache.findById(rotated.userId());
+                if (userOpt.isEmpty()) {
+                    refreshTokenService.revokeToken(rotated.refreshToken());
+                    return null;
+                }
+                rotated = rotated.withOwner(userOpt.get().getEmail(), userOpt.get().getNickname());
             }
 
-            RefreshToken refreshTokenEntity = tokenData.get();
-            UUID userId = refreshTokenEntity.getUserId();
-
-            // DB에서 사용자 정보 조회
-            Optional<User> userOpt = userRepository.findById(userId);
-            if (userOpt.isEmpty()) {
-                return null;
-            }
-
-            User user = userOpt.get();
-
-            String newRefreshToken = refreshTokenService.rotateToken(oldRefreshToken);
-            String newAccessToken = jwtUtil.generateAccessToken(userId, user.getEmail(), user.getNickname());
+            String newRefreshToken = rotated.refreshToken();
+            String newAccessToken = jwtUtil.generateAccessToken(rotated.userId(), rotated.email(), rotated.nickname());
 
             jwtUtil.addAccessTokenToCookie(response, newAccessToken);
             jwtUtil.addRefreshTokenToCookie(response, newRefreshToken);
@@ -123,8 +127,8 @@ public class UserAuthService {
                     .accessToken(newAccessToken)
                     .user(
                             RefreshTokenResDto.UserInfoDto.builder()
-                                    .id(user.getId().toString())
-                                    .nickname(user.getNickname())
+                                    .id(rotated.userId().toString())
+                                    .nickname(rotated.nickname())
                                     .build()
                     )
                     .build();
@@ -146,7 +150,16 @@ public class UserAuthService {
         jwtUtil.removeAccessTokenCookie(response);
         jwtUtil.removeRefreshTokenCookie(response);
 
-        // 3. Spring Security 세션 무효화 (Redis 포함)
+        // 3. Spring Security 세션 무효화 (stateless 모드는 세션이 없으므로 조회하지 않음)
+        if (!stateless) invalidateSession(request);
+
+        // 4. SecurityContext 클리어
+        clearContext();
+
+        log.info("로그아웃 완료 - JWT, 세션, SecurityContext 모두 정리됨");
+    }
+
+    private void invalidateSession(HttpServletRequest request) {
         try {
             if (request.getSession(false) != null) {
                 request.getSession().invalidate();
@@ -155,11 +168,15 @@ public class UserAuthService {
         } catch (IllegalStateException e) {
             log.debug("세션이 이미 무효화되어 있음");
         }
+    }
 
-        // 4. SecurityContext 클리어
-        clearContext();
-
-        log.info("로그아웃 완료 - JWT, 세션, SecurityContext 모두 정리됨");
+    // /user/auth/me ETag: 사용자 버전 (캐시 스냅샷, DB 조회 없음)
+    public String currentUserETag() {
+        User actor = rq.getActor();
+        if (actor == null) return "W/\"me-anonymous\"";
+        return userCache.findById(actor.getId())
+                .map(user -> "W/\"me-%s-%d\"".formatted(user.getId(), user.getVersion()))
+                .orElse("W/\"me-anonymous\"");
     }
 
     // 현재 로그인한 사용자 정보 조회 (세션 검증용)
@@ -176,7 +193,7 @@ public class UserAuthService {
                         .build();
             }
 
-            Optional<User> userOpt = userRepository.findById(actor.getId());
+            Optional<User> userOpt = userCache.findById(actor.getId());
             if (userOpt.isEmpty()) {
                 log.warn("사용자 ID {}를 DB에서 찾을 수 없음 (토큰은 유효하나 사용자 삭제됨)", actor.getId());
                 return UserMeResDto.builder()
@@ -0,0 +1,89 @@
+package com.back.domain.user.service;
+
+import com.back.domain.user.entity.User;
+import com.back.domain.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 사용자 조회 read-through 캐시 (/user/auth/me, 토큰 갱신, Rq.getActorFromDb)
+ * - 키: 사용자 UUID
+ * - 값: 불변 스냅샷, 조회마다 새 User 로 복사 (영속성 컨텍스트와 공유하지 않음)
+ * - 없는 사용자는 캐시하지 않음
+ * - 무효화: 생성/수정/탈퇴 시 즉시 + 커밋 직후 한 번 더
+ */
+@Component
+public class UserCache {
+
+    private final boolean enabled;
+    private final UserRepository userRepository;
+    private final LoadingCache<UUID, CachedUser> cache;
+
+    public UserCache(UserRepository userRepository,
+                     @Value("${custom.user.cache.enabled:true}") boolean enabled,
+                     @Value("${custom.user.cache.maximumSize:10000}") long maximumSize,
+                     @Value("${custom.user.cache.ttlSeconds:300}") long ttlSeconds) {
+        this.enabled = enabled;
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build(id -> userRepository.findById(id).map(CachedUser::from).orElse(null));
+    }
+
+    public Optional<User> findById(UUID id) {
+        if (!enabled) return userRepository.findById(id);
+        return Optional.ofNullable(cache.get(id)).map(CachedUser::toUser);
+    }
+
+    public void evict(UUID id) {
+        if (id == null) return;
+        cache.invalidate(id);
+
+        // 커밋 전에 다른 요청이 이전 값을 다시 적재했을 수 있으므로 커밋 후 한 번 더
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(id);
+                }
+            });
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    record CachedUser(UUID id, String email, String nickname, String oauthId,
+                      LocalDateTime createdAt, String role, Long version) {
+
+        static CachedUser from(User user) {
+            return new CachedUser(user.getId(), user.getEmail(), user.getNickname(), user.getOauthId(),
+                    user.getCreatedAt(), user.getRole(), user.getVersion());
+        }
+
+        User toUser() {
+            return User.builder()
+                    .id(id)
+                    .email(email)
+                    .nickname(nickname)
+                    .oauthId(oauthId)
+                    .createdAt(createdAt)
+                    .role(role)
+                    .version(version)
+                    .build();
+        }
+    }
+}
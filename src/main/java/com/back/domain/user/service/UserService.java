@@ -16,10 +16,10 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final RefreshTokenService refreshTokenService;
+    private final UserCache userCache;
 
-    @Transactional(readOnly = true)
     public User findById(UUID id) {
-        return userRepository.findById(id)
+        return userCache.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("User not found. id=" + id));
     }
 
@@ -30,5 +30,6 @@ public class UserService {
 
         // 모든 세션(리프레시 토큰) 폐기
         refreshTokenService.revokeAllForUser(id);
+        userCache.evict(user.getId());
     }
 }
@@ -0,0 +1,121 @@
+package com.back.global.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 액세스 토큰 캐시
+ * 같은 토큰이 반복해서 들어오면 HMAC 검증과 Base64/JSON 디코딩을 건너뜀
+ * - 키: 토큰 원문 대신 SHA-256 앞 128비트 (원문 토큰을 힙에 보관하지 않음)
+ * - 만료: 엔트리마다 토큰의 exp 시각에 맞춰 만료
+ * - 제거: 크기 제한 (W-TinyLFU)
+ * - 적중률: cache.gets{cache="accessToken"} (/actuator/prometheus)
+ */
+@Slf4j
+@Component
+public class AccessTokenCache implements MeterBinder {
+
+    private final boolean enabled;
+    private final Cache<TokenDigest, AccessTokenPrincipal> cache;
+
+    public AccessTokenCache(@Value("${custom.accessToken.cache.enabled:true}") boolean enabled,
+                            @Value("${custom.accessToken.cache.maximumSize:10000}") long maximumSize) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<TokenDigest, AccessTokenPrincipal>() {
+                    @Override
+                    public long expireAfterCreate(TokenDigest key, AccessTokenPrincipal value, long currentTime) {
+                        return remainingNanos(value);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(TokenDigest key, AccessTokenPrincipal value, long currentTime, long currentDuration) {
+                        return remainingNanos(value);
+                    }
+
+                    @Override
+                    public long expireAfterRead(TokenDigest key, AccessTokenPrincipal value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public AccessTokenPrincipal get(TokenDigest key) {
+        return cache.getIfPresent(key);
+    }
+
+    public void put(TokenDigest key, AccessTokenPrincipal principal) {
+        // exp 없는 토큰은 언제 만료될지 알 수 없으므로 캐시하지 않음
+        if (principal.expiresAt() == null) return;
+        cache.put(key, principal);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (enabled) CaffeineCacheMetrics.monitor(registry, cache, "accessToken");
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    // 캐시 크기 조정용 통계 (10분마다)
+    @Scheduled(fixedRateString = "${custom.accessToken.cache.statsLogIntervalMs:600000}")
+    public void logStats() {
+        if (!enabled) return;
+        CacheStats stats = cache.stats();
+        log.info("AccessTokenCache stats - size: {}, hit: {}, miss: {}, eviction: {}, hitRate: {}",
+                cache.estimatedSize(), stats.hitCount(), stats.missCount(), stats.evictionCount(),
+                String.format("%.3f", stats.hitRate()));
+    }
+
+    private static long remainingNanos(AccessTokenPrincipal principal) {
+        long remainingMillis = principal.expiresAt().toEpochMilli() - Instant.now().toEpochMilli();
+        return Math.max(0, remainingMillis) * 1_000_000L;
+    }
+
+    /**
+     * 토큰 원문의 SHA-256 앞 128비트
+     */
+    public record TokenDigest(long high, long low) {
+
+        public static TokenDigest of(String token) {
+            ByteBuffer digest = ByteBuffer.wrap(sha256().digest(token.getBytes(StandardCharsets.US_ASCII)));
+            return new TokenDigest(digest.getLong(), digest.getLong());
+        }
+
+        private static MessageDigest sha256() {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+        }
+    }
+}
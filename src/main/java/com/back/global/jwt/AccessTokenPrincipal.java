@@ -0,0 +1,31 @@
+package com.back.global.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 서명 검증이 끝난 액세스 토큰의 클레임
+ * 토큰 하나당 한 번만 파싱하고 이후에는 이 값을 재사용
+ */
+public record AccessTokenPrincipal(
+        UUID userId,
+        String email,
+        String nickname,
+        Instant expiresAt
+) {
+
+    // sub 가 없으면 사용자를 알 수 없으므로 null (서명이 맞아도 INVALID 처리)
+    static AccessTokenPrincipal from(Claims claims) {
+        String subject = claims.getSubject();
+        if (subject == null) return null;
+
+        return new AccessTokenPrincipal(
+                UUID.fromString(subject),
+                claims.get("email", String.class),
+                claims.get("nickname", String.class),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null
+        );
+    }
+}
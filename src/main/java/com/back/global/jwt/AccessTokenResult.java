@@ -0,0 +1,19 @@
+package com.back.global.jwt;
+
+/**
+ * 액세스 토큰 검증 결과
+ * 실패 사유(만료/위조)를 구분해야 하는 인증 필터용, 실패 결과는 공유 인스턴스
+ */
+public record AccessTokenResult(AccessTokenPrincipal principal, AuthOutcome outcome) {
+
+    static final AccessTokenResult EXPIRED = new AccessTokenResult(null, AuthOutcome.EXPIRED);
+    static final AccessTokenResult INVALID = new AccessTokenResult(null, AuthOutcome.INVALID);
+
+    static AccessTokenResult ok(AccessTokenPrincipal principal) {
+        return new AccessTokenResult(principal, AuthOutcome.OK);
+    }
+
+    public boolean isValid() {
+        return principal != null;
+    }
+}
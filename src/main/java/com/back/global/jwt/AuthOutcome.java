@@ -0,0 +1,21 @@
+package com.back.global.jwt;
+
+/**
+ * 요청 인증 결과 (메트릭 outcome 태그 값)
+ */
+public enum AuthOutcome {
+    MISSING("missing"),
+    EXPIRED("expired"),
+    INVALID("invalid"),
+    OK("ok");
+
+    private final String tag;
+
+    AuthOutcome(String tag) {
+        this.tag = tag;
+    }
+
+    public String tag() {
+        return tag;
+    }
+}
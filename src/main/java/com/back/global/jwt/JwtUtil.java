@@ -1,5 +1,6 @@
 package com.back.global.jwt;
 
+import com.back.global.metrics.AuthMetrics;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.http.Cookie;
@@ -19,17 +20,27 @@ import java.util.UUID;
 public class JwtUtil {
 
     private final SecretKey secretKey;
+    private final JwtParser jwtParser; // 불변 + 스레드 안전, 요청마다 새로 만들지 않음
+    private final AccessTokenCache accessTokenCache;
+    private final AuthMetrics authMetrics;
     private final long accessTokenExpiration;
     private final String cookieDomain;
-    private static final String ACCESS_TOKEN_COOKIE_NAME = "accessToken";
-    private static final String REFRESH_TOKEN_COOKIE_NAME = "refreshToken";
+    private static final String ACCESS_TOKEN_COOKIE_NAME = TokenExtractor.ACCESS_TOKEN_COOKIE_NAME;
+    private static final String REFRESH_TOKEN_COOKIE_NAME = TokenExtractor.REFRESH_TOKEN_COOKIE_NAME;
 
     public JwtUtil(@Value("${custom.jwt.secretKey}") String secretKey,
                    @Value("${custom.accessToken.expirationSeconds}") long accessTokenExpiration,
-                   @Value("${custom.site.cookieDomain}") String cookieDomain) {
+                   @Value("${custom.site.cookieDomain}") String cookieDomain,
+                   AccessTokenCache accessTokenCache,
+                   AuthMetrics authMetrics) {
         this.secretKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(this.secretKey)
+                .build();
         this.accessTokenExpiration = accessTokenExpiration * 1000;
         this.cookieDomain = cookieDomain;
+        this.accessTokenCache = accessTokenCache;
+        this.authMetrics = authMetrics;
     }
 
     public String generateAccessToken(UUID userId, String email, String nickname) {
@@ -83,23 +94,55 @@ public class JwtUtil {
         response.addCookie(cookie);
     }
 
-    public boolean validateAccessToken(String token) {
+    // 서명 검증 + 클레임 추출을 한 번에 처리, 실패 시 null
+    public AccessTokenPrincipal parseAccessToken(String token) {
+        return checkAccessToken(token).principal();
+    }
+
+    // parseAccessToken 과 같지만 실패 사유(만료/위조)도 함께 반환
+    // 이미 검증된 토큰이면 캐시에서 바로 반환
+    public AccessTokenResult checkAccessToken(String token) {
+        if (token == null || token.isBlank() || !accessTokenCache.isEnabled()) {
+            return verifyAccessToken(token);
+        }
+
+        AccessTokenCache.TokenDigest key = AccessTokenCache.TokenDigest.of(token);
+        AccessTokenPrincipal cached = accessTokenCache.get(key);
+        if (cached != null) {
+            return AccessTokenResult.ok(cached);
+        }
+
+        AccessTokenResult result = verifyAccessToken(token);
+        if (result.isValid()) {
+            accessTokenCache.put(key, result.principal());
+        }
+        return result;
+    }
+
+    private AccessTokenResult verifyAccessToken(String token) {
+        long start = System.nanoTime();
+        AccessTokenResult result = AccessTokenResult.INVALID;
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (SecurityException | MalformedJwtException e) {
-            log.error("Invalid JWT signature: {}", e.getMessage());
+            AccessTokenPrincipal principal = AccessTokenPrincipal.from(parseToken(token));
+            if (principal != null) {
+                result = AccessTokenResult.ok(principal);
+            } else {
+                log.debug("Invalid JWT token: missing subject");
+            }
         } catch (ExpiredJwtException e) {
-            log.error("Expired JWT token: {}", e.getMessage());
-        } catch (UnsupportedJwtException e) {
-            log.error("Unsupported JWT token: {}", e.getMessage());
-        } catch (IllegalArgumentException e) {
-            log.error("JWT claims string is empty: {}", e.getMessage());
+            // 만료/위조 토큰은 클라이언트가 보내는 정상 흐름, 건수는 auth.requests 메트릭으로 확인
+            result = AccessTokenResult.EXPIRED;
+            log.debug("Expired JWT token");
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Invalid JWT token: {}", e.getClass().getSimpleName());
+        } finally {
+            authMetrics.tokenVerified(result.outcome(), start);
         }
-        return false;
+        return result;
+    }
+
+    public boolean validateAccessToken(String token) {
+        return parseAccessToken(token) != null;
     }
 
     public UUID getUserIdFromToken(String token) {
@@ -115,9 +158,7 @@ public class JwtUtil {
     }
 
     private Claims parseToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
@@ -133,20 +174,11 @@ public class JwtUtil {
     }
 
     public String getRefreshTokenFromCookie(HttpServletRequest request) {
-        Cookie[] cookies = request.getCookies();
-        log.debug("받은 쿠키 개수: {}", cookies != null ? cookies.length : 0);
-
-        if (cookies != null) {
-            for (Cookie cookie : cookies) {
-                log.debug("쿠키 확인 - 이름: {}, 값: {}", cookie.getName(), cookie.getValue());
-                if (REFRESH_TOKEN_COOKIE_NAME.equals(cookie.getName())) {
-                    log.debug("RefreshToken 쿠키 발견: {}", cookie.getValue());
-                    return cookie.getValue();
-                }
-            }
+        String refreshToken = TokenExtractor.extract(request).refreshToken();
+        if (refreshToken == null) {
+            log.debug("RefreshToken 쿠키를 찾을 수 없음");
         }
-        log.debug("RefreshToken 쿠키를 찾을 수 없음");
-        return null;
+        return refreshToken;
     }
 
     public void removeRefreshTokenCookie(HttpServletResponse response) {
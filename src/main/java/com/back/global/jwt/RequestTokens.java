@@ -0,0 +1,34 @@
+package com.back.global.jwt;
+
+/**
+ * 요청 하나에서 꺼낸 액세스/리프레시 토큰
+ * 요청 속성에 한 번 저장해 두고 인증 필터, 토큰 갱신, 로그아웃이 같은 인스턴스를 재사용한다.
+ */
+public final class RequestTokens {
+
+    static final RequestTokens EMPTY = new RequestTokens(null, null, false);
+
+    private final String accessToken;
+    private final String refreshToken;
+    private final boolean accessTokenFromHeader;
+
+    RequestTokens(String accessToken, String refreshToken, boolean accessTokenFromHeader) {
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+        this.accessTokenFromHeader = accessTokenFromHeader;
+    }
+
+    // Authorization 헤더 우선, 없으면 accessToken 쿠키 (없으면 null)
+    public String accessToken() {
+        return accessToken;
+    }
+
+    // refreshToken 쿠키 (없으면 null)
+    public String refreshToken() {
+        return refreshToken;
+    }
+
+    public boolean isAccessTokenFromHeader() {
+        return accessTokenFromHeader;
+    }
+}
@@ -0,0 +1,107 @@
+package com.back.global.jwt;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Authorization 헤더와 Cookie 헤더에서 토큰을 꺼내는 추출기
+ * - request.getCookies() 는 모든 쿠키를 Cookie 객체로 만들기 때문에 쓰지 않고 Cookie 헤더 원문을 한 번만 훑는다
+ * - 문자열 할당은 찾은 토큰 값 substring 과 결과 홀더뿐
+ * - 결과는 요청 속성에 저장되어 같은 요청 안에서는 다시 파싱하지 않는다
+ */
+public final class TokenExtractor {
+
+    static final String ACCESS_TOKEN_COOKIE_NAME = "accessToken";
+    static final String REFRESH_TOKEN_COOKIE_NAME = "refreshToken";
+
+    private static final String ATTRIBUTE = RequestTokens.class.getName();
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private TokenExtractor() {
+    }
+
+    // 요청당 한 번만 파싱
+    public static RequestTokens extract(HttpServletRequest request) {
+        Object cached = request.getAttribute(ATTRIBUTE);
+        if (cached instanceof RequestTokens tokens) return tokens;
+
+        RequestTokens tokens = scan(request);
+        request.setAttribute(ATTRIBUTE, tokens);
+        return tokens;
+    }
+
+    // 캐시 없이 매번 파싱 (벤치마크용)
+    public static RequestTokens scan(HttpServletRequest request) {
+        String bearer = bearerToken(request.getHeader("Authorization"));
+
+        String cookieAccessToken = null;
+        String refreshToken = null;
+
+        // HTTP/2 에서 여러 줄로 온 cookie 헤더는 Tomcat 이 한 줄로 합쳐 줌
+        String header = request.getHeader("Cookie");
+        if (header != null) {
+            int length = header.length();
+            int i = 0;
+
+            while (i < length) {
+                while (i < length && isSeparator(header.charAt(i))) i++;
+
+                int nameStart = i;
+                while (i < length && header.charAt(i) != '=' && header.charAt(i) != ';') i++;
+                int nameEnd = trimEnd(header, nameStart, i);
+
+                // 값 없는 쿠키 (예: "flag;")
+                if (i >= length || header.charAt(i) == ';') continue;
+                i++;
+
+                while (i < length && isWhitespace(header.charAt(i))) i++;
+                int valueStart = i;
+                while (i < length && header.charAt(i) != ';') i++;
+                int valueEnd = trimEnd(header, valueStart, i);
+
+                if (valueEnd - valueStart >= 2 && header.charAt(valueStart) == '"' && header.charAt(valueEnd - 1) == '"') {
+                    valueStart++;
+                    valueEnd--;
+                }
+                if (valueStart == valueEnd) continue;
+
+                // 같은 이름이 여러 번 오면 첫 번째 값 사용 (request.getCookies() 순회와 동일)
+                if (bearer == null && cookieAccessToken == null && nameEquals(header, nameStart, nameEnd, ACCESS_TOKEN_COOKIE_NAME)) {
+                    cookieAccessToken = header.substring(valueStart, valueEnd);
+                } else if (refreshToken == null && nameEquals(header, nameStart, nameEnd, REFRESH_TOKEN_COOKIE_NAME)) {
+                    refreshToken = header.substring(valueStart, valueEnd);
+                }
+            }
+        }
+
+        if (bearer == null && cookieAccessToken == null && refreshToken == null) return RequestTokens.EMPTY;
+        return bearer != null
+                ? new RequestTokens(bearer, refreshToken, true)
+                : new RequestTokens(cookieAccessToken, refreshToken, false);
+    }
+
+    // "Bearer " 뒤가 비어 있으면 쿠키로 넘어감
+    private static String bearerToken(String header) {
+        if (header == null || !header.startsWith(BEARER_PREFIX)) return null;
+
+        int end = trimEnd(header, BEARER_PREFIX.length(), header.length());
+        if (end == BEARER_PREFIX.length()) return null;
+        return header.substring(BEARER_PREFIX.length(), end);
+    }
+
+    private static boolean nameEquals(String header, int start, int end, String name) {
+        return end - start == name.length() && header.regionMatches(start, name, 0, name.length());
+    }
+
+    private static int trimEnd(String s, int start, int end) {
+        while (end > start && isWhitespace(s.charAt(end - 1))) end--;
+        return end;
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == ';' || isWhitespace(c);
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t';
+    }
+}
@@ -0,0 +1,24 @@
+package com.back.global.jwt.refreshToken.dto;
+
+import com.back.global.jwt.refreshToken.store.StoredRefreshToken;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰 + 토큰 소유자 정보 (refresh_tokens JOIN users 한 번으로 조회)
+ */
+public record RefreshTokenOwner(
+        String token,
+        UUID userId,
+        LocalDateTime createdAt,
+        LocalDateTime expiresAt,
+        LocalDateTime lastUsedAt,
+        String email,
+        String nickname
+) {
+
+    public StoredRefreshToken stored() {
+        return new StoredRefreshToken(token, userId, createdAt, expiresAt, lastUsedAt);
+    }
+}
@@ -0,0 +1,36 @@
+package com.back.global.jwt.refreshToken.dto;
+
+import com.back.global.jwt.refreshToken.store.StoredRefreshToken;
+
+import java.util.UUID;
+
+/**
+ * 회전(rotation) 결과 - 새 리프레시 토큰과 액세스 토큰 발급에 필요한 사용자 정보
+ * - refreshToken: 기존 토큰이 만료/Idle 초과라 삭제만 된 경우 null
+ * - email, nickname: jpa 저장소는 회전 트랜잭션에서 users 를 조인해 채움
+ *   key-value 저장소(memory, redis)는 null 이므로 호출 측에서 userId 로 조회
+ */
+public record RotatedRefreshToken(
+        String refreshToken,
+        UUID userId,
+        String email,
+        String nickname
+) {
+
+    public static RotatedRefreshToken of(StoredRefreshToken next, UUID userId) {
+        return new RotatedRefreshToken(next != null ? next.token() : null, userId, null, null);
+    }
+
+    public boolean issued() {
+        return refreshToken != null;
+    }
+
+    // users.nickname 은 NOT NULL 이므로 nickname 이 있으면 소유자를 함께 조회한 것
+    public boolean ownerLoaded() {
+        return nickname != null;
+    }
+
+    public RotatedRefreshToken withOwner(String email, String nickname) {
+        return new RotatedRefreshToken(refreshToken, userId, email, nickname);
+    }
+}
@@ -2,7 +2,9 @@ package com.back.global.jwt.refreshToken.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import com.back.global.jwt.refreshToken.store.StoredRefreshToken;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.domain.Persistable;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
@@ -10,13 +12,17 @@ import java.util.UUID;
 
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "refresh_tokens")
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_user_id", columnList = "userId"),
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expiresAt"),   // 만료 토큰 정리용
+        @Index(name = "idx_refresh_tokens_last_used_at", columnList = "lastUsedAt") // Idle 토큰 정리용
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class RefreshToken {
+public class RefreshToken implements Persistable<String> {
 
     @Id
     private String token;
@@ -34,17 +40,38 @@ public class RefreshToken {
     @Column(nullable = false)
     private LocalDateTime lastUsedAt;
 
-    public static RefreshToken create(String token, UUID userId, long ttlSeconds) {
-        LocalDateTime now = LocalDateTime.now();
+    // 토큰 값을 직접 지정하므로 save() 시 merge(SELECT + INSERT) 대신 persist(INSERT)로 처리
+    @Transient
+    @Builder.Default
+    private boolean newEntity = false;
+
+    public static RefreshToken from(StoredRefreshToken token) {
         return RefreshToken.builder()
-                .token(token)
-                .userId(userId)
-                .createdAt(now)  // ⭐ createdAt 명시적 설정
-                .lastUsedAt(now)
-                .expiresAt(now.plusSeconds(ttlSeconds))
+                .token(token.token())
+                .userId(token.userId())
+                .createdAt(token.createdAt())  // ⭐ createdAt 명시적 설정
+                .lastUsedAt(token.lastUsedAt())
+                .expiresAt(token.expiresAt())
+                .newEntity(true)
                 .build();
     }
 
+    @Override
+    public String getId() {
+        return token;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
     public boolean isExpired() {
         return LocalDateTime.now().isAfter(this.expiresAt);
     }
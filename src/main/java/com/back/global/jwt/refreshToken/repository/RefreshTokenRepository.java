@@ -1,7 +1,11 @@
 package com.back.global.jwt.refreshToken.repository;
 
+import com.back.global.jwt.refreshToken.dto.RefreshTokenOwner;
 import com.back.global.jwt.refreshToken.entity.RefreshToken;
+import com.back.global.jwt.refreshToken.store.StoredRefreshToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -18,4 +22,36 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Stri
     void deleteByUserId(UUID userId);
 
     void deleteByExpiresAtBefore(LocalDateTime now);
+
+    // 영속성 컨텍스트에 올리지 않는 조회 (더티 체킹 UPDATE 방지)
+    @Query("""
+            select new com.back.global.jwt.refreshToken.store.StoredRefreshToken(
+                r.token, r.userId, r.createdAt, r.expiresAt, r.lastUsedAt)
+            from RefreshToken r
+            where r.token = :token
+            """)
+    Optional<StoredRefreshToken> findStoredByToken(String token);
+
+    // 토큰과 소유자를 한 번의 조인으로 조회 (회전용)
+    @Query("""
+            select new com.back.global.jwt.refreshToken.dto.RefreshTokenOwner(
+                r.token, r.userId, r.createdAt, r.expiresAt, r.lastUsedAt, u.email, u.nickname)
+            from RefreshToken r
+            join User u on u.id = r.userId
+            where r.token = :token
+            """)
+    Optional<RefreshTokenOwner> findOwnerByToken(String token);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update RefreshToken r set r.lastUsedAt = :usedAt where r.token = :token and r.lastUsedAt < :usedAt")
+    int updateLastUsedAt(String token, LocalDateTime usedAt);
+
+    // 엔티티 로딩 없이 바로 DELETE, 삭제된 행 수 반환
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from RefreshToken r where r.token = :token")
+    int deleteDirectlyByToken(String token);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from RefreshToken r where r.userId = :userId")
+    int deleteDirectlyByUserId(UUID userId);
 }
\ No newline at end of file
@@ -0,0 +1,121 @@
+package com.back.global.jwt.refreshToken.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * refresh_tokens 만료/Idle 토큰 정리 (JPA 저장소용)
+ * - 엔티티를 읽지 않고 인덱스(expires_at, last_used_at)를 타는 DELETE 를 청크 단위로 실행
+ * - 청크마다 별도 트랜잭션 → 긴 락/대용량 트랜잭션 방지
+ * - 청크 사이에 잠시 쉬어 다른 요청에 DB를 양보
+ * - 만료/Idle 정리는 각자 maxChunks 한도를 가짐 (만료 정리가 한도를 다 써도 Idle 정리는 실행)
+ */
+@Slf4j
+@Component
+public class RefreshTokenCleanupJob {
+
+    private static final String DELETE_EXPIRED_CHUNK_SQL = """
+            DELETE FROM refresh_tokens
+            WHERE token IN (SELECT token FROM refresh_tokens WHERE expires_at < ? LIMIT ?)
+            """;
+
+    private static final String DELETE_IDLE_CHUNK_SQL = """
+            DELETE FROM refresh_tokens
+            WHERE token IN (SELECT token FROM refresh_tokens WHERE last_used_at < ? LIMIT ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final long pauseMillis;
+    private final int maxChunks;
+
+    private volatile CleanupResult lastResult;
+
+    public RefreshTokenCleanupJob(JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${custom.refreshToken.cleanup.chunkSize:1000}") int chunkSize,
+                                  @Value("${custom.refreshToken.cleanup.pauseMs:50}") long pauseMillis,
+                                  @Value("${custom.refreshToken.cleanup.maxChunks:1000}") int maxChunks) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+        this.maxChunks = maxChunks;
+    }
+
+    public CleanupResult run(LocalDateTime now, LocalDateTime idleCutoff) {
+        long startedAt = System.nanoTime();
+
+        ChunkCount expired = deleteInChunks("만료", DELETE_EXPIRED_CHUNK_SQL, now);
+        ChunkCount idle = deleteInChunks("Idle", DELETE_IDLE_CHUNK_SQL, idleCutoff);
+
+        CleanupResult result = new CleanupResult(
+                expired.rows(),
+                idle.rows(),
+                expired.chunks() + idle.chunks(),
+                Duration.ofNanos(System.nanoTime() - startedAt)
+        );
+        lastResult = result;
+
+        log.info("RefreshToken 정리 완료 - 만료: {}건, Idle: {}건, 청크: {}, 소요: {}ms",
+                result.expiredRemoved(), result.idleRemoved(), result.chunks(), result.duration().toMillis());
+        return result;
+    }
+
+    public CleanupResult getLastResult() {
+        return lastResult;
+    }
+
+    private ChunkCount deleteInChunks(String pass, String sql, LocalDateTime cutoff) {
+        Timestamp cutoffTimestamp = Timestamp.valueOf(cutoff);
+        long rows = 0;
+        int chunks = 0;
+        boolean lastChunkFull = false;
+
+        while (chunks < maxChunks) {
+            Integer deleted = transactionTemplate.execute(status -> jdbcTemplate.update(sql, cutoffTimestamp, chunkSize));
+            chunks++;
+            rows += deleted != null ? deleted : 0;
+
+            lastChunkFull = deleted != null && deleted >= chunkSize;
+            if (!lastChunkFull) break; // 마지막 청크
+            if (chunks < maxChunks && !pause()) break;
+        }
+
+        // 마지막 청크가 꽉 찬 채로 한도에 닿았을 때만 남은 토큰이 있을 수 있음
+        if (lastChunkFull && chunks >= maxChunks) {
+            log.warn("RefreshToken {} 정리 청크 한도 도달 - 남은 토큰은 다음 실행에서 정리", pass);
+        }
+        return new ChunkCount(rows, chunks);
+    }
+
+    private boolean pause() {
+        if (pauseMillis <= 0) return true;
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record ChunkCount(long rows, int chunks) {
+    }
+
+    public record CleanupResult(long expiredRemoved, long idleRemoved, int chunks, Duration duration) {
+
+        public long totalRemoved() {
+            return expiredRemoved + idleRemoved;
+        }
+    }
+}
@@ -1,13 +1,14 @@
 package com.back.global.jwt.refreshToken.service;
 
 
-import com.back.global.jwt.refreshToken.entity.RefreshToken;
-import com.back.global.jwt.refreshToken.repository.RefreshTokenRepository;
+import com.back.global.jwt.refreshToken.dto.RotatedRefreshToken;
+import com.back.global.jwt.refreshToken.store.RefreshTokenStore;
+import com.back.global.metrics.AuthMetrics;
+import com.back.global.jwt.refreshToken.store.StoredRefreshToken;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
@@ -15,11 +16,13 @@ import java.util.Base64;
 import java.util.Optional;
 import java.util.UUID;
 
+// 트랜잭션/원자성은 저장소 구현(RefreshTokenStore)이 담당
 @Service
 @RequiredArgsConstructor
 public class RefreshTokenService {
 
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final AuthMetrics authMetrics;
     private final SecureRandom secureRandom = new SecureRandom();
 
     @Value("${custom.refreshToken.expirationSeconds}")
@@ -28,73 +31,65 @@ public class RefreshTokenService {
     @Value("${custom.refreshToken.idleTimeoutHours}")
     private long idleTimeoutHours;
 
-    // 기존 리프레시 토큰 삭제하고 생성
-    @Transactional
-    public String generateRefreshToken(UUID userId) {
-        // 기존 토큰 삭제
-        refreshTokenRepository.deleteByUserId(userId);
+    @Value("${custom.refreshToken.store:jpa}")
+    private String storeType;
 
+    // 기존 리프레시 토큰 삭제하고 생성 (저장소에서 원자적으로 교체)
+    public String generateRefreshToken(UUID userId) {
         String token = generateSecureToken();
-        RefreshToken refreshToken = RefreshToken.create(token, userId, refreshTokenExpiration);
-        refreshTokenRepository.save(refreshToken);
+        refreshTokenStore.replaceAllForUser(StoredRefreshToken.create(token, userId, refreshTokenExpiration));
 
         return token;
     }
 
     //검증 (만료 체크 및 Idle Timeout 체크 포함)
-    @Transactional
     public boolean validateToken(String token) {
-        Optional<RefreshToken> tokenOpt = refreshTokenRepository.findByToken(token);
+        Optional<StoredRefreshToken> tokenOpt = refreshTokenStore.find(token);
         if (tokenOpt.isEmpty()) {
             return false;
         }
 
-        RefreshToken refreshToken = tokenOpt.get();
-
-        // 1. 만료 체크 (30일)
-        if (refreshToken.isExpired()) {
-            revokeToken(token); // 만료된 토큰 삭제
-            return false;
-        }
+        StoredRefreshToken refreshToken = tokenOpt.get();
 
-        // 2. Idle Timeout 체크 (4시간)
-        if (refreshToken.isIdleExpired(idleTimeoutHours)) {
-            revokeToken(token); // Idle 초과 토큰 삭제
+        // 1. 만료 체크 (30일), 2. Idle Timeout 체크 (4시간)
+        if (!isUsable(refreshToken)) {
+            revokeToken(token); // 만료/Idle 초과 토큰 삭제
             return false;
         }
 
         // 3. lastUsedAt 갱신 (사용 시간 업데이트)
-        refreshToken.setLastUsedAt(LocalDateTime.now());
-        refreshTokenRepository.save(refreshToken);
+        refreshTokenStore.touch(token, LocalDateTime.now());
 
         return true;
     }
 
-    //기존 토큰 지우고 발급(회전)
-    @Transactional
-    public String rotateToken(String oldToken) {
-        Optional<RefreshToken> oldRefreshToken = refreshTokenRepository.findByToken(oldToken);
+    // 검증 + 회전: 기존 토큰을 꺼내고(삭제) 유효하면 새 토큰 저장 (사용자의 다른 토큰은 폐기)
+    // 검증 실패 또는 동시 회전으로 이미 삭제된 토큰이면 null
+    public RotatedRefreshToken rotate(String oldToken) {
+        long start = System.nanoTime();
 
-        if (oldRefreshToken.isEmpty()) {
-            throw new IllegalArgumentException("Invalid refresh token");
-        }
-
-        RefreshToken tokenData = oldRefreshToken.get();
-        revokeToken(oldToken);
+        RotatedRefreshToken rotated = refreshTokenStore.rotate(oldToken, old -> isUsable(old)
+                        ? StoredRefreshToken.create(generateSecureToken(), old.userId(), refreshTokenExpiration)
+                        : null) // 만료/Idle 초과 토큰은 삭제만 됨
+                .filter(RotatedRefreshToken::issued)
+                .orElse(null);
 
-        return generateRefreshToken(tokenData.getUserId());
+        authMetrics.refreshRotated(storeType, rotated != null, start);
+        return rotated;
     }
 
     //삭제
-    @Transactional
     public void revokeToken(String token) {
-        refreshTokenRepository.deleteByToken(token);
+        refreshTokenStore.delete(token);
     }
 
     // 사용자 전체 세션(리프레시 토큰) 폐기
-    @Transactional
     public void revokeAllForUser(UUID userId) {
-        refreshTokenRepository.deleteByUserId(userId);
+        refreshTokenStore.deleteAllForUser(userId);
+    }
+
+    private boolean isUsable(StoredRefreshToken refreshToken) {
+        return !refreshToken.isExpired() && !refreshToken.isIdleExpired(idleTimeoutHours);
     }
 
     //문자열 난수 조합
@@ -104,10 +99,10 @@ public class RefreshTokenService {
         return Base64.getEncoder().withoutPadding().encodeToString(randomBytes);
     }
 
-    // 만료된 토큰 정리 (1시간마다 실행)
+    // 만료 + Idle 초과 토큰 정리 (1시간마다 실행)
     @Scheduled(fixedRate = 3600000)
-    @Transactional
     public void cleanupExpiredTokens() {
-        refreshTokenRepository.deleteByExpiresAtBefore(LocalDateTime.now());
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenStore.purgeExpired(now, now.minusMinutes(idleTimeoutHours));
     }
 }
@@ -0,0 +1,129 @@
+package com.back.global.jwt.refreshToken.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 리프레시 토큰 lastUsedAt 쓰기 지연(write-behind) 버퍼
+ * 토큰 사용 시마다 UPDATE 하지 않고 메모리에 모아두었다가 주기적으로 JDBC 배치로 반영
+ * - 같은 토큰은 가장 최근 사용 시각만 유지
+ * - Idle Timeout 검사는 DB 값과 버퍼 값 중 최신 값을 기준으로 수행
+ * - 버퍼가 maxPending 에 닿으면 새 토큰은 버퍼에 넣지 않고 바로 UPDATE (메모리 상한, 사용 기록은 잃지 않음)
+ * - 종료 시 남은 값을 모두 반영
+ */
+@Slf4j
+@Component
+public class RefreshTokenTouchBuffer {
+
+    private static final String UPDATE_LAST_USED_AT_SQL =
+            "UPDATE refresh_tokens SET last_used_at = ? WHERE token = ? AND last_used_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean writeBehind;
+    private final int batchSize;
+    private final int maxPending;
+
+    private final Map<String, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    public RefreshTokenTouchBuffer(JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${custom.refreshToken.touch.writeBehind:false}") boolean writeBehind,
+                                   @Value("${custom.refreshToken.touch.batchSize:500}") int batchSize,
+                                   @Value("${custom.refreshToken.touch.maxPending:100000}") int maxPending) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.writeBehind = writeBehind;
+        this.batchSize = batchSize;
+        this.maxPending = maxPending;
+    }
+
+    public boolean isWriteBehind() {
+        return writeBehind;
+    }
+
+    public void touch(String token, LocalDateTime usedAt) {
+        // 이미 있는 토큰은 값만 갱신하므로 크기가 늘지 않음
+        if (pending.size() >= maxPending && !pending.containsKey(token)) {
+            writeThrough(token, usedAt);
+            return;
+        }
+        pending.merge(token, usedAt, (prev, next) -> next.isAfter(prev) ? next : prev);
+    }
+
+    // 버퍼가 가득 찼을 때 단건 즉시 반영 (flush 가 밀린 동안에만 발생)
+    private void writeThrough(String token, LocalDateTime usedAt) {
+        Timestamp timestamp = Timestamp.valueOf(usedAt);
+        try {
+            jdbcTemplate.update(UPDATE_LAST_USED_AT_SQL, timestamp, token, timestamp);
+        } catch (RuntimeException e) {
+            log.warn("RefreshToken lastUsedAt 즉시 반영 실패 (버퍼 가득 참 - {}건): {}", pending.size(), e.getMessage());
+        }
+    }
+
+    // DB에 저장된 값과 버퍼 값 중 최신 사용 시각
+    public LocalDateTime lastUsedAt(String token, LocalDateTime persisted) {
+        LocalDateTime buffered = pending.get(token);
+        if (buffered == null) return persisted;
+        return persisted == null || buffered.isAfter(persisted) ? buffered : persisted;
+    }
+
+    // 삭제된 토큰은 반영할 필요 없음
+    public void forget(String token) {
+        pending.remove(token);
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    @Scheduled(fixedDelayString = "${custom.refreshToken.touch.flushIntervalMs:5000}")
+    public void flush() {
+        if (pending.isEmpty()) return;
+
+        // 커밋 전까지는 버퍼에 남겨둠 (반영 중에도 lastUsedAt 조회가 버퍼 값을 볼 수 있도록)
+        List<Map.Entry<String, LocalDateTime>> snapshot = new ArrayList<>(pending.size());
+        List<Object[]> batch = new ArrayList<>(pending.size());
+        for (Map.Entry<String, LocalDateTime> entry : pending.entrySet()) {
+            Timestamp usedAt = Timestamp.valueOf(entry.getValue());
+            snapshot.add(Map.entry(entry.getKey(), entry.getValue()));
+            batch.add(new Object[]{usedAt, entry.getKey(), usedAt});
+        }
+        if (batch.isEmpty()) return;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int from = 0; from < batch.size(); from += batchSize) {
+                    jdbcTemplate.batchUpdate(UPDATE_LAST_USED_AT_SQL, batch.subList(from, Math.min(from + batchSize, batch.size())));
+                }
+            });
+        } catch (RuntimeException e) {
+            // 버퍼에 그대로 남아 있으므로 다음 flush 때 재시도
+            log.error("RefreshToken lastUsedAt 반영 실패 - {}건: {}", batch.size(), e.getMessage());
+            return;
+        }
+
+        // 커밋 후 제거, 값이 바뀌지 않은 엔트리만 (그 사이 갱신된 값은 다음 flush 때 반영)
+        snapshot.forEach(entry -> pending.remove(entry.getKey(), entry.getValue()));
+        log.debug("RefreshToken lastUsedAt 반영 - {}건", batch.size());
+    }
+
+    // 정상 종료 시 남은 값 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
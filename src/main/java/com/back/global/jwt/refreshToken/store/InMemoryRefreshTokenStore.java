@@ -0,0 +1,150 @@
+package com.back.global.jwt.refreshToken.store;
+
+import com.back.global.jwt.refreshToken.dto.RotatedRefreshToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * 단일 노드 배포용 메모리 저장소
+ * - 토큰 해시로 샤드를 나누어 만료 정리를 샤드 단위로 수행
+ * - 만료된 토큰은 조회 시점에 바로 제거 (TTL), 남은 것은 purgeExpired 에서 정리
+ * - 재시작하면 모든 토큰이 사라지므로 사용자는 다시 로그인해야 함
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "custom.refreshToken.store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final Map<String, StoredRefreshToken>[] shards;
+    private final int shardMask;
+    private final Map<UUID, Set<String>> tokensByUser = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public InMemoryRefreshTokenStore(@Value("${custom.refreshToken.memory.shards:16}") int shardCount) {
+        int size = Integer.highestOneBit(Math.max(1, shardCount - 1)) << 1; // 2의 거듭제곱으로 올림
+        this.shards = new Map[size];
+        for (int i = 0; i < size; i++) {
+            shards[i] = new ConcurrentHashMap<>();
+        }
+        this.shardMask = size - 1;
+    }
+
+    @Override
+    public void save(StoredRefreshToken token) {
+        shardFor(token.token()).put(token.token(), token);
+        tokensByUser.compute(token.userId(), (userId, tokens) -> {
+            if (tokens == null) tokens = ConcurrentHashMap.newKeySet();
+            tokens.add(token.token());
+            return tokens;
+        });
+    }
+
+    @Override
+    public Optional<StoredRefreshToken> find(String token) {
+        Map<String, StoredRefreshToken> shard = shardFor(token);
+        StoredRefreshToken stored = shard.get(token);
+        if (stored == null) {
+            return Optional.empty();
+        }
+        if (stored.isExpired()) {
+            if (shard.remove(token, stored)) unindex(stored);
+            return Optional.empty();
+        }
+        return Optional.of(stored);
+    }
+
+    @Override
+    public void touch(String token, LocalDateTime usedAt) {
+        shardFor(token).computeIfPresent(token, (key, stored) ->
+                usedAt.isAfter(stored.lastUsedAt()) ? stored.withLastUsedAt(usedAt) : stored);
+    }
+
+    @Override
+    public void delete(String token) {
+        StoredRefreshToken removed = shardFor(token).remove(token);
+        if (removed != null) unindex(removed);
+    }
+
+    @Override
+    public void deleteAllForUser(UUID userId) {
+        Set<String> tokens = tokensByUser.remove(userId);
+        if (tokens == null) return;
+        tokens.forEach(token -> shardFor(token).remove(token));
+    }
+
+    // 사용자 인덱스 잠금(compute) 안에서 교체하므로 같은 사용자의 save/교체와 섞이지 않음
+    @Override
+    public void replaceAllForUser(StoredRefreshToken token) {
+        tokensByUser.compute(token.userId(), (userId, tokens) -> {
+            if (tokens != null) {
+                tokens.forEach(old -> shardFor(old).remove(old));
+            }
+            shardFor(token.token()).put(token.token(), token);
+            Set<String> replaced = ConcurrentHashMap.newKeySet();
+            replaced.add(token.token());
+            return replaced;
+        });
+    }
+
+    @Override
+    public Optional<RotatedRefreshToken> rotate(String oldToken, UnaryOperator<StoredRefreshToken> successor) {
+        // remove 가 원자적이므로 동시에 회전하면 한쪽만 기존 토큰을 얻음
+        StoredRefreshToken old = shardFor(oldToken).remove(oldToken);
+        if (old == null) {
+            return Optional.empty();
+        }
+        unindex(old);
+
+        StoredRefreshToken next = successor.apply(old);
+        if (next != null) {
+            replaceAllForUser(next); // 사용자의 다른 토큰도 폐기
+        }
+        return Optional.of(RotatedRefreshToken.of(next, old.userId()));
+    }
+
+    @Override
+    public long purgeExpired(LocalDateTime now, LocalDateTime idleCutoff) {
+        long removed = 0;
+        for (Map<String, StoredRefreshToken> shard : shards) {
+            for (StoredRefreshToken stored : shard.values()) {
+                boolean expired = now.isAfter(stored.expiresAt()) || idleCutoff.isAfter(stored.lastUsedAt());
+                if (expired && shard.remove(stored.token(), stored)) {
+                    unindex(stored);
+                    removed++;
+                }
+            }
+        }
+        log.debug("메모리 저장소 만료 토큰 정리 - {}건", removed);
+        return removed;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Map<String, StoredRefreshToken> shard : shards) {
+            size += shard.size();
+        }
+        return size;
+    }
+
+    private Map<String, StoredRefreshToken> shardFor(String token) {
+        int h = token.hashCode();
+        return shards[(h ^ (h >>> 16)) & shardMask];
+    }
+
+    private void unindex(StoredRefreshToken stored) {
+        tokensByUser.computeIfPresent(stored.userId(), (userId, tokens) -> {
+            tokens.remove(stored.token());
+            return tokens.isEmpty() ? null : tokens;
+        });
+    }
+}
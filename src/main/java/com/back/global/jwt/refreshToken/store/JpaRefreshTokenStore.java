@@ -0,0 +1,115 @@
+package com.back.global.jwt.refreshToken.store;
+
+import com.back.global.jwt.refreshToken.dto.RefreshTokenOwner;
+import com.back.global.jwt.refreshToken.dto.RotatedRefreshToken;
+import com.back.global.jwt.refreshToken.entity.RefreshToken;
+import com.back.global.jwt.refreshToken.repository.RefreshTokenRepository;
+import com.back.global.jwt.refreshToken.service.RefreshTokenCleanupJob;
+import com.back.global.jwt.refreshToken.service.RefreshTokenTouchBuffer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+
+/**
+ * RDB(refresh_tokens 테이블) 저장소 - 기본값
+ * 조회는 엔티티 대신 프로젝션으로 받아 더티 체킹에 의한 UPDATE 가 발생하지 않도록 함
+ */
+@Component
+@ConditionalOnProperty(name = "custom.refreshToken.store", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenTouchBuffer touchBuffer;
+    private final RefreshTokenCleanupJob cleanupJob;
+
+    @Override
+    @Transactional
+    public void save(StoredRefreshToken token) {
+        refreshTokenRepository.save(RefreshToken.from(token));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<StoredRefreshToken> find(String token) {
+        return refreshTokenRepository.findStoredByToken(token)
+                .map(this::withBufferedLastUsedAt);
+    }
+
+    @Override
+    @Transactional
+    public void touch(String token, LocalDateTime usedAt) {
+        if (touchBuffer.isWriteBehind()) {
+            touchBuffer.touch(token, usedAt); // 주기적으로 배치 반영
+        } else {
+            refreshTokenRepository.updateLastUsedAt(token, usedAt);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void delete(String token) {
+        touchBuffer.forget(token);
+        refreshTokenRepository.deleteDirectlyByToken(token);
+    }
+
+    @Override
+    @Transactional
+    public void deleteAllForUser(UUID userId) {
+        refreshTokenRepository.deleteDirectlyByUserId(userId);
+    }
+
+    // DELETE + INSERT 를 한 트랜잭션으로
+    @Override
+    @Transactional
+    public void replaceAllForUser(StoredRefreshToken token) {
+        refreshTokenRepository.deleteDirectlyByUserId(token.userId());
+        refreshTokenRepository.save(RefreshToken.from(token));
+    }
+
+    // SELECT(refresh_tokens JOIN users) 1회 + DELETE 1회 (+ 새 토큰 INSERT 1회)
+    // 소유자를 같은 트랜잭션에서 조회하므로 호출 측에서 사용자를 다시 조회하지 않음
+    @Override
+    @Transactional
+    public Optional<RotatedRefreshToken> rotate(String oldToken, UnaryOperator<StoredRefreshToken> successor) {
+        Optional<RefreshTokenOwner> ownerOpt = refreshTokenRepository.findOwnerByToken(oldToken);
+        if (ownerOpt.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // 버퍼의 lastUsedAt 을 먼저 읽고 나서 forget (반대 순서면 아직 반영 안 된 사용 시각을 잃어 Idle 로 오판)
+        RefreshTokenOwner owner = ownerOpt.get();
+        StoredRefreshToken old = withBufferedLastUsedAt(owner.stored());
+        touchBuffer.forget(oldToken);
+
+        // 삭제된 행 수로 동시 회전 여부 판단
+        if (refreshTokenRepository.deleteDirectlyByToken(oldToken) != 1) {
+            return Optional.empty();
+        }
+
+        StoredRefreshToken next = successor.apply(old);
+        if (next != null) {
+            replaceAllForUser(next); // 같은 트랜잭션에서 사용자의 다른 토큰도 폐기
+        }
+        return Optional.of(RotatedRefreshToken.of(next, owner.userId()).withOwner(owner.email(), owner.nickname()));
+    }
+
+    // 청크마다 별도 트랜잭션으로 삭제
+    @Override
+    public long purgeExpired(LocalDateTime now, LocalDateTime idleCutoff) {
+        // 아직 반영되지 않은 사용 시각을 먼저 반영해야 사용 중인 토큰을 Idle 로 오인하지 않음
+        touchBuffer.flush();
+        return cleanupJob.run(now, idleCutoff).totalRemoved();
+    }
+
+    private StoredRefreshToken withBufferedLastUsedAt(StoredRefreshToken token) {
+        LocalDateTime lastUsedAt = touchBuffer.lastUsedAt(token.token(), token.lastUsedAt());
+        return lastUsedAt == token.lastUsedAt() ? token : token.withLastUsedAt(lastUsedAt);
+    }
+}
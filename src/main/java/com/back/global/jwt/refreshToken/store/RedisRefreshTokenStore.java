@@ -0,0 +1,216 @@
+package com.back.global.jwt.refreshToken.store;
+
+import com.back.global.jwt.refreshToken.dto.RotatedRefreshToken;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+
+/**
+ * Redis 프로토콜 저장소 (Redis 6.2 이상 - GETDEL 사용)
+ * 키 구성
+ * - refresh_token:{token}           = "userId|createdAt|expiresAt" (epoch ms), 토큰 만료 시각에 맞춘 TTL
+ * - refresh_token:{token}:last_used = lastUsedAt (epoch ms), 같은 TTL
+ * - refresh_token:user:{userId}     = 사용자의 토큰 Set
+ * 만료는 Redis TTL 에 맡기므로 별도 정리 작업이 없음
+ */
+@Component
+@ConditionalOnProperty(name = "custom.refreshToken.store", havingValue = "redis")
+@RequiredArgsConstructor
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String TOKEN_KEY_PREFIX = "refresh_token:";
+    private static final String LAST_USED_KEY_SUFFIX = ":last_used";
+    private static final String USER_KEY_PREFIX = "refresh_token:user:";
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    private static final int MAX_REPLACE_ATTEMPTS = 5;
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public void save(StoredRefreshToken token) {
+        long ttlMillis = Duration.between(LocalDateTime.now(), token.expiresAt()).toMillis();
+        if (ttlMillis <= 0) return;
+
+        Expiration expiration = Expiration.milliseconds(ttlMillis);
+        String userKey = userKey(token.userId());
+
+        // 한 번의 왕복으로 전송
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            redis.set(tokenKey(token.token()), encode(token), expiration, SetOption.upsert());
+            redis.set(lastUsedKey(token.token()), toMillis(token.lastUsedAt()), expiration, SetOption.upsert());
+            redis.sAdd(userKey, token.token());
+            redis.pExpire(userKey, ttlMillis);
+            return null;
+        });
+    }
+
+    @Override
+    public Optional<StoredRefreshToken> find(String token) {
+        List<String> values = redisTemplate.opsForValue().multiGet(List.of(tokenKey(token), lastUsedKey(token)));
+        if (values == null || values.get(0) == null) {
+            return Optional.empty();
+        }
+        return Optional.of(decode(token, values.get(0), values.get(1)));
+    }
+
+    @Override
+    public void touch(String token, LocalDateTime usedAt) {
+        // SET ... XX KEEPTTL - 토큰이 없으면 키를 새로 만들지 않음
+        redisTemplate.execute((RedisCallback<Object>) connection ->
+                ((StringRedisConnection) connection).set(lastUsedKey(token), toMillis(usedAt), Expiration.keepTtl(), SetOption.ifPresent()));
+    }
+
+    @Override
+    public void delete(String token) {
+        String value = redisTemplate.opsForValue().getAndDelete(tokenKey(token));
+        cleanUp(token, value);
+    }
+
+    @Override
+    public void deleteAllForUser(UUID userId) {
+        String userKey = userKey(userId);
+        Set<String> tokens = redisTemplate.opsForSet().members(userKey);
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            if (tokens != null) {
+                for (String token : tokens) {
+                    redis.del(tokenKey(token), lastUsedKey(token));
+                }
+            }
+            redis.del(userKey);
+            return null;
+        });
+    }
+
+    // WATCH 사용자 Set -> MULTI (기존 토큰 삭제 + 새 토큰 저장) -> EXEC
+    // 그 사이 같은 사용자의 Set 이 바뀌면 EXEC 가 취소되므로 다시 시도
+    @Override
+    public void replaceAllForUser(StoredRefreshToken token) {
+        for (int attempt = 0; attempt < MAX_REPLACE_ATTEMPTS; attempt++) {
+            List<Object> results = redisTemplate.execute(new SessionCallback<>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> List<Object> execute(RedisOperations<K, V> operations) {
+                    return replaceInTransaction((RedisOperations<String, String>) operations, token);
+                }
+            });
+            if (results != null && !results.isEmpty()) {
+                return;
+            }
+        }
+        throw new IllegalStateException("리프레시 토큰 교체 실패 - 동시 발급 충돌 (userId: " + token.userId() + ")");
+    }
+
+    @Override
+    public Optional<RotatedRefreshToken> rotate(String oldToken, UnaryOperator<StoredRefreshToken> successor) {
+        // GETDEL 은 원자적이므로 동시에 회전하면 한쪽만 기존 토큰을 얻음
+        String value = redisTemplate.opsForValue().getAndDelete(tokenKey(oldToken));
+        if (value == null) {
+            return Optional.empty();
+        }
+        String lastUsed = redisTemplate.opsForValue().getAndDelete(lastUsedKey(oldToken));
+        StoredRefreshToken old = decode(oldToken, value, lastUsed);
+        redisTemplate.opsForSet().remove(userKey(old.userId()), oldToken);
+
+        StoredRefreshToken next = successor.apply(old);
+        if (next != null) {
+            replaceAllForUser(next); // 사용자의 다른 토큰도 폐기
+        }
+        return Optional.of(RotatedRefreshToken.of(next, old.userId()));
+    }
+
+    @Override
+    public long purgeExpired(LocalDateTime now, LocalDateTime idleCutoff) {
+        return 0; // Redis TTL 로 자동 만료
+    }
+
+    private List<Object> replaceInTransaction(RedisOperations<String, String> operations, StoredRefreshToken token) {
+        String userKey = userKey(token.userId());
+        operations.watch(userKey);
+        Set<String> tokens = operations.opsForSet().members(userKey);
+
+        operations.multi();
+        if (tokens != null) {
+            for (String old : tokens) {
+                operations.delete(List.of(tokenKey(old), lastUsedKey(old)));
+            }
+        }
+        operations.delete(userKey);
+
+        long ttlMillis = Duration.between(LocalDateTime.now(), token.expiresAt()).toMillis();
+        if (ttlMillis > 0) {
+            Duration ttl = Duration.ofMillis(ttlMillis);
+            operations.opsForValue().set(tokenKey(token.token()), encode(token), ttl);
+            operations.opsForValue().set(lastUsedKey(token.token()), toMillis(token.lastUsedAt()), ttl);
+            operations.opsForSet().add(userKey, token.token());
+            operations.expire(userKey, ttl);
+        }
+        return operations.exec();
+    }
+
+    private void cleanUp(String token, String value) {
+        if (value == null) return;
+        UUID userId = UUID.fromString(value.substring(0, value.indexOf('|')));
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            redis.del(lastUsedKey(token));
+            redis.sRem(userKey(userId), token);
+            return null;
+        });
+    }
+
+    private static String tokenKey(String token) {
+        return TOKEN_KEY_PREFIX + token;
+    }
+
+    private static String lastUsedKey(String token) {
+        return TOKEN_KEY_PREFIX + token + LAST_USED_KEY_SUFFIX;
+    }
+
+    private static String userKey(UUID userId) {
+        return USER_KEY_PREFIX + userId;
+    }
+
+    private static String encode(StoredRefreshToken token) {
+        return token.userId() + "|" + toMillis(token.createdAt()) + "|" + toMillis(token.expiresAt());
+    }
+
+    private static StoredRefreshToken decode(String token, String value, String lastUsed) {
+        String[] parts = value.split("\\|", 3);
+        LocalDateTime createdAt = fromMillis(parts[1]);
+        return new StoredRefreshToken(
+                token,
+                UUID.fromString(parts[0]),
+                createdAt,
+                fromMillis(parts[2]),
+                lastUsed != null ? fromMillis(lastUsed) : createdAt
+        );
+    }
+
+    private static String toMillis(LocalDateTime time) {
+        return Long.toString(time.atZone(ZONE).toInstant().toEpochMilli());
+    }
+
+    private static LocalDateTime fromMillis(String millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(millis)), ZONE);
+    }
+}
@@ -0,0 +1,42 @@
+package com.back.global.jwt.refreshToken.store;
+
+import com.back.global.jwt.refreshToken.dto.RotatedRefreshToken;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+
+/**
+ * 리프레시 토큰 저장소
+ * custom.refreshToken.store 로 구현 선택 (jpa | memory | redis)
+ * 각 메서드는 구현체 안에서 원자적으로 처리됨
+ */
+public interface RefreshTokenStore {
+
+    void save(StoredRefreshToken token);
+
+    Optional<StoredRefreshToken> find(String token);
+
+    // 마지막 사용 시각 갱신 (토큰이 없으면 무시)
+    void touch(String token, LocalDateTime usedAt);
+
+    void delete(String token);
+
+    void deleteAllForUser(UUID userId);
+
+    // 사용자의 기존 토큰을 모두 지우고 새 토큰만 남김 (로그인 발급용, 삭제와 저장이 하나의 원자적 작업)
+    void replaceAllForUser(StoredRefreshToken token);
+
+    /**
+     * 기존 토큰을 꺼내(삭제) successor 에 넘기고, 반환된 새 토큰으로 사용자의 토큰을 모두 교체 (replaceAllForUser)
+     * successor 가 null 을 반환하면 기존 토큰만 삭제됨
+     * @return 회전 결과 (이미 없거나 동시에 회전된 경우 empty)
+     *         소유자 정보(email, nickname)는 같은 트랜잭션에서 조인할 수 있는 저장소만 채움
+     */
+    Optional<RotatedRefreshToken> rotate(String oldToken, UnaryOperator<StoredRefreshToken> successor);
+
+    // 만료(expiresAt < now) + Idle(lastUsedAt < idleCutoff) 토큰 정리, 삭제한 개수 반환
+    // TTL을 직접 지원하는 저장소는 0 (Idle 토큰은 사용 시점에 제거됨)
+    long purgeExpired(LocalDateTime now, LocalDateTime idleCutoff);
+}
@@ -0,0 +1,33 @@
+package com.back.global.jwt.refreshToken.store;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 저장소에 보관되는 리프레시 토큰 값 (저장소 구현과 무관한 불변 값)
+ */
+public record StoredRefreshToken(
+        String token,
+        UUID userId,
+        LocalDateTime createdAt,
+        LocalDateTime expiresAt,
+        LocalDateTime lastUsedAt
+) {
+
+    public static StoredRefreshToken create(String token, UUID userId, long ttlSeconds) {
+        LocalDateTime now = LocalDateTime.now();
+        return new StoredRefreshToken(token, userId, now, now.plusSeconds(ttlSeconds), now);
+    }
+
+    public boolean isExpired() {
+        return LocalDateTime.now().isAfter(this.expiresAt);
+    }
+
+    public boolean isIdleExpired(long idleTimeoutHours) {
+        return LocalDateTime.now().isAfter(this.lastUsedAt.plusMinutes(idleTimeoutHours));
+    }
+
+    public StoredRefreshToken withLastUsedAt(LocalDateTime lastUsedAt) {
+        return new StoredRefreshToken(token, userId, createdAt, expiresAt, lastUsedAt);
+    }
+}
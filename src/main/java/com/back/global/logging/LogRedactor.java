@@ -0,0 +1,51 @@
+package com.back.global.logging;
+
+import java.util.regex.Pattern;
+
+/**
+ * 로그 메시지의 토큰 값 가림
+ * - mask: 로그 인자로 넘기는 비밀 값 (앞 4자 + 길이만 남김)
+ * - redact: 이미 만들어진 메시지에서 JWT 와 token=값 형태를 가림 (JSON 로그 message 필드에 적용)
+ * 토큰 흔적이 없는 메시지는 정규식을 돌리지 않고 그대로 반환
+ */
+public final class LogRedactor {
+
+    static final String MASK = "***";
+
+    private static final Pattern JWT = Pattern.compile("eyJ[\\w-]+\\.[\\w-]+\\.[\\w-]*");
+    private static final Pattern BEARER = Pattern.compile("(?i)\\b(bearer\\s+)(?!\\*\\*\\*)[^\\s;,&\"']+");
+    // accessToken=..., refresh_token: "...", Authorization: ... (Bearer 는 위에서 값만 가림)
+    private static final Pattern TOKEN_PAIR = Pattern.compile(
+            "(?i)\\b((?:access|refresh)?_?token|authorization)([\"']?\\s*[=:]\\s*[\"']?)(?!\\*\\*\\*|bearer\\s)[^\\s;,&\"']+");
+
+    private LogRedactor() {
+    }
+
+    // 로그 인자용: "Qk9H…(43)"
+    public static String mask(String secret) {
+        if (secret == null) return null;
+        if (secret.length() <= 8) return MASK;
+        return secret.substring(0, 4) + "…(" + secret.length() + ")";
+    }
+
+    public static String redact(String message) {
+        if (message == null || !mayContainSecret(message)) return message;
+
+        String result = JWT.matcher(message).replaceAll(MASK);
+        result = BEARER.matcher(result).replaceAll("$1" + MASK);
+        return TOKEN_PAIR.matcher(result).replaceAll("$1$2" + MASK);
+    }
+
+    private static boolean mayContainSecret(String message) {
+        return message.contains("eyJ") || containsIgnoreCase(message, "token") || containsIgnoreCase(message, "bearer")
+                || containsIgnoreCase(message, "authorization");
+    }
+
+    private static boolean containsIgnoreCase(String s, String word) {
+        int last = s.length() - word.length();
+        for (int i = 0; i <= last; i++) {
+            if (s.regionMatches(true, i, word, 0, word.length())) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,51 @@
+package com.back.global.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 로거 카테고리(패키지 접두사)별 INFO 이하 로그 샘플링
+ * - WARN 이상은 항상 기록
+ * - 비율은 가장 긴 접두사 기준 (예: com.back.global.security=0.01 → 100건 중 1건)
+ * - 로거 이름별 비율은 한 번 계산해 두고 재사용
+ */
+public class LogSamplingFilter extends TurboFilter {
+
+    private static final double ALWAYS = 1.0;
+
+    private final Map<String, Double> rates;
+    private final Map<String, Double> rateByLogger = new ConcurrentHashMap<>();
+
+    public LogSamplingFilter(Map<String, Double> rates) {
+        this.rates = Map.copyOf(rates);
+        setName("LOG_SAMPLING");
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level == null || level.isGreaterOrEqual(Level.WARN)) return FilterReply.NEUTRAL;
+        // 어차피 꺼진 레벨은 판단하지 않음 (isEnabledFor 는 터보 필터를 다시 부르므로 직접 비교)
+        if (!level.isGreaterOrEqual(logger.getEffectiveLevel())) return FilterReply.NEUTRAL;
+
+        double rate = rateByLogger.computeIfAbsent(logger.getName(), this::rateOf);
+        if (rate >= ALWAYS) return FilterReply.NEUTRAL;
+        return ThreadLocalRandom.current().nextDouble() < rate ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    double rateOf(String loggerName) {
+        String best = null;
+        for (String prefix : rates.keySet()) {
+            boolean matches = loggerName.equals(prefix)
+                    || (loggerName.startsWith(prefix) && loggerName.charAt(prefix.length()) == '.');
+            if (matches && (best == null || prefix.length() > best.length())) best = prefix;
+        }
+        return best == null ? ALWAYS : rates.get(best);
+    }
+}
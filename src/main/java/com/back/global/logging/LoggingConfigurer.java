@@ -0,0 +1,85 @@
+package com.back.global.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 로그 파이프라인 설정 (custom.logging.*)
+ * - async: 루트 로거 appender 를 AsyncAppender 로 감싸 요청 스레드가 콘솔 I/O 를 기다리지 않도록 함
+ *   큐가 80% 차면 INFO 이하는 버리고, neverBlock 이면 가득 차도 대기하지 않음
+ * - sampling: 카테고리별 INFO 이하 샘플링 (LogSamplingFilter)
+ * JSON 형식과 토큰 가림은 logging.structured.* (RedactingJsonMembersCustomizer) 가 담당
+ * 테스트처럼 컨텍스트가 여러 번 떠도 한 번만 감싸도록 이미 설치된 것은 교체/건너뜀
+ */
+@Slf4j
+@Component
+public class LoggingConfigurer {
+
+    static final String ASYNC_PREFIX = "ASYNC_";
+
+    public LoggingConfigurer(Environment environment,
+                             @Value("${custom.logging.async.enabled:false}") boolean asyncEnabled,
+                             @Value("${custom.logging.async.queueSize:8192}") int queueSize,
+                             @Value("${custom.logging.async.neverBlock:true}") boolean neverBlock) {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+
+        Map<String, Double> sampling = Binder.get(environment)
+                .bind("custom.logging.sampling", Bindable.mapOf(String.class, Double.class))
+                .orElse(Map.of());
+        installSampling(context, sampling);
+
+        if (asyncEnabled) {
+            int wrapped = wrapAsync(context, queueSize, neverBlock);
+            log.info("비동기 로그 적용 - appender: {}개, queueSize: {}, neverBlock: {}", wrapped, queueSize, neverBlock);
+        }
+    }
+
+    static void installSampling(LoggerContext context, Map<String, Double> sampling) {
+        context.getTurboFilterList().removeIf(filter -> filter instanceof LogSamplingFilter);
+        if (sampling.isEmpty()) return;
+
+        LogSamplingFilter filter = new LogSamplingFilter(sampling);
+        filter.setContext(context);
+        filter.start();
+        context.addTurboFilter(filter);
+    }
+
+    static int wrapAsync(LoggerContext context, int queueSize, boolean neverBlock) {
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        List<Appender<ILoggingEvent>> targets = new ArrayList<>();
+        for (Iterator<Appender<ILoggingEvent>> it = root.iteratorForAppenders(); it.hasNext(); ) {
+            Appender<ILoggingEvent> appender = it.next();
+            if (!(appender instanceof AsyncAppender)) targets.add(appender);
+        }
+
+        for (Appender<ILoggingEvent> target : targets) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setName(ASYNC_PREFIX + target.getName());
+            async.setQueueSize(queueSize);
+            async.setNeverBlock(neverBlock);
+            async.setIncludeCallerData(false);
+            async.addAppender(target);
+            async.start();
+
+            root.detachAppender(target);
+            root.addAppender(async);
+        }
+        return targets.size();
+    }
+}
@@ -0,0 +1,17 @@
+package com.back.global.logging;
+
+import org.springframework.boot.json.JsonWriter;
+import org.springframework.boot.logging.structured.StructuredLoggingJsonMembersCustomizer;
+
+/**
+ * 구조화(JSON) 로그의 message 필드에 LogRedactor 적용
+ * logging.structured.json.customizer 로 등록 (logstash, ecs 형식 모두 message 필드 사용)
+ */
+public class RedactingJsonMembersCustomizer implements StructuredLoggingJsonMembersCustomizer<Object> {
+
+    @Override
+    public void customize(JsonWriter.Members<Object> members) {
+        members.applyingValueProcessor(JsonWriter.ValueProcessor.of(String.class, LogRedactor::redact)
+                .whenHasPath("message"));
+    }
+}
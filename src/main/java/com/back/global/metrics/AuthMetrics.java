@@ -0,0 +1,78 @@
+package com.back.global.metrics;
+
+import com.back.global.jwt.AuthOutcome;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 경로 메트릭 (/actuator/prometheus)
+ * - auth.requests{outcome}: 인증 필터 결과 (missing, expired, invalid, ok)
+ * - auth.token.verify{outcome}: 액세스 토큰 서명 검증 + 클레임 파싱 (캐시 적중은 제외)
+ * - auth.refresh.rotate{store, result}: 리프레시 토큰 회전
+ * - auth.oauth2.user.info{provider, result}: 제공자 사용자 정보 HTTP 호출
+ * - auth.oauth2.load.user{provider, result}: loadUser 전체 (제공자 호출 + 사용자 조회/생성)
+ * 요청마다 태그를 만들지 않도록 미터는 미리 등록하거나 한 번만 만들어 재사용
+ * 리포지토리 쿼리 지연은 spring.data.repository.invocations{repository, method} 로 자동 수집
+ */
+@Component
+public class AuthMetrics {
+
+    private final MeterRegistry registry;
+    private final Map<AuthOutcome, Counter> requests = new EnumMap<>(AuthOutcome.class);
+    private final Map<AuthOutcome, Timer> tokenVerify = new EnumMap<>(AuthOutcome.class);
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public AuthMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (AuthOutcome outcome : AuthOutcome.values()) {
+            requests.put(outcome, Counter.builder("auth.requests")
+                    .description("인증 필터 결과")
+                    .tag("outcome", outcome.tag())
+                    .register(registry));
+            if (outcome != AuthOutcome.MISSING) {
+                tokenVerify.put(outcome, Timer.builder("auth.token.verify")
+                        .description("액세스 토큰 서명 검증 + 클레임 파싱")
+                        .tag("outcome", outcome.tag())
+                        .register(registry));
+            }
+        }
+    }
+
+    public void authenticated(AuthOutcome outcome) {
+        requests.get(outcome).increment();
+    }
+
+    public void tokenVerified(AuthOutcome outcome, long startNanos) {
+        tokenVerify.get(outcome).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void refreshRotated(String store, boolean rotated, long startNanos) {
+        timer("auth.refresh.rotate", "store", store, rotated ? "rotated" : "rejected")
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void oauth2UserInfoLoaded(String provider, boolean success, long startNanos) {
+        timer("auth.oauth2.user.info", "provider", provider, success ? "success" : "error")
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void oauth2UserLoaded(String provider, boolean success, long startNanos) {
+        timer("auth.oauth2.load.user", "provider", provider, success ? "success" : "error")
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // 태그 조합이 적으므로 (저장소 3종, 제공자 3종 x 결과 2종) 만든 Timer 를 그대로 보관
+    private Timer timer(String name, String tagKey, String tagValue, String result) {
+        return timers.computeIfAbsent(name + '|' + tagValue + '|' + result, key -> Timer.builder(name)
+                .tag(tagKey, tagValue)
+                .tag("result", result)
+                .register(registry));
+    }
+}
@@ -9,13 +9,14 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
 
-import java.util.Arrays;
 import java.util.Optional;
 
 @Component
@@ -79,17 +80,15 @@ public class Rq {
     }
 
     public String getCookieValue(String name, String defaultValue) {
-        return Optional
-                .ofNullable(req.getCookies())
-                .flatMap(
-                        cookies ->
-                                Arrays.stream(cookies)
-                                        .filter(cookie -> cookie.getName().equals(name))
-                                        .map(Cookie::getValue)
-                                        .filter(value -> !value.isBlank())
-                                        .findFirst()
-                )
-                .orElse(defaultValue);
+        Cookie[] cookies = req.getCookies();
+        if (cookies == null) return defaultValue;
+
+        for (Cookie cookie : cookies) {
+            if (cookie.getName().equals(name) && !cookie.getValue().isBlank()) {
+                return cookie.getValue();
+            }
+        }
+        return defaultValue;
     }
 
     public void setCrossDomainCookie(String name, String value, int maxAge) {
@@ -113,6 +112,16 @@ public class Rq {
         resp.sendRedirect(url);
     }
 
+    /**
+     * 버전 기반 ETag 조건부 GET
+     * If-None-Match 가 같으면 304 상태를 설정하고 true (호출 측은 본문 없이 null 반환), 아니면 ETag 헤더만 설정
+     * 브라우저가 저장 후 매번 재검증하도록 Cache-Control 을 직접 지정 (Spring Security 기본 no-store 대신)
+     */
+    public boolean checkNotModified(String etag) {
+        resp.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        return new ServletWebRequest(req, resp).checkNotModified(etag);
+    }
+
     public User getActorFromDb() {
         User actor = getActor();
         if(actor == null) return null;
@@ -2,8 +2,13 @@ package com.back.global.security;
 
 import com.back.domain.user.entity.User;
 import com.back.global.exception.ServiceException;
+import com.back.global.jwt.AccessTokenPrincipal;
+import com.back.global.jwt.AccessTokenResult;
+import com.back.global.jwt.AuthOutcome;
 import com.back.global.jwt.JwtUtil;
-import com.back.global.rq.Rq;
+import com.back.global.jwt.RequestTokens;
+import com.back.global.jwt.TokenExtractor;
+import com.back.global.metrics.AuthMetrics;
 import com.back.global.rsData.RsData;
 import com.back.global.standard.util.Ut;
 import jakarta.servlet.FilterChain;
@@ -22,14 +27,13 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Map;
-import java.util.UUID;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class CustomAuthenticationFilter extends OncePerRequestFilter {
     private final JwtUtil jwtUtil;
-    private final Rq rq;
+    private final AuthMetrics authMetrics;
 
     @Value("${custom.accessToken.expirationSeconds}")
     private int accessTokenExpiration;
@@ -59,64 +63,46 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
         log.debug("===== Authentication Filter Start =====");
         log.debug("Request: {} {}", method, uri);
 
-        String accessToken = null;
-
-        // 1. 먼저 Authorization 헤더에서 토큰 가져오기 시도
-        String authHeader = request.getHeader("Authorization");
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            accessToken = authHeader.substring(7);
-            log.debug("Token found in Authorization header");
-        }
-
-        // 2. Authorization 헤더에 없으면 쿠키에서 가져오기
-        if (accessToken == null || accessToken.isBlank()) {
-            accessToken = rq.getCookieValue("accessToken", "");
-            if (!accessToken.isBlank()) {
-                log.debug("Token found in Cookie");
-            }
+        // Authorization 헤더 우선, 없으면 쿠키 (Cookie 헤더 한 번만 스캔)
+        RequestTokens tokens = TokenExtractor.extract(request);
+        String accessToken = tokens.accessToken() != null ? tokens.accessToken() : "";
+        if (!accessToken.isEmpty()) {
+            log.debug("Token found in {}", tokens.isAccessTokenFromHeader() ? "Authorization header" : "Cookie");
         }
 
-        boolean isAccessTokenExists = !accessToken.isBlank();
+        boolean isAccessTokenExists = !accessToken.isEmpty();
 
         if (!isAccessTokenExists) {
             log.debug("No access token found - proceeding without authentication");
+            authMetrics.authenticated(AuthOutcome.MISSING);
             filterChain.doFilter(request, response);
             return;
         }
 
         User user = null;
 
-        // accessToken 검증
-        if (jwtUtil.validateAccessToken(accessToken)) {
+        // accessToken 검증 + 클레임 추출 (서명 검증은 한 번만 수행)
+        AccessTokenResult result = jwtUtil.checkAccessToken(accessToken);
+        authMetrics.authenticated(result.outcome());
+        AccessTokenPrincipal principal = result.principal();
+        if (principal != null) {
             log.debug("Access token is valid");
 
-            try {
-                UUID userId = jwtUtil.getUserIdFromToken(accessToken);
-                String email = jwtUtil.getEmailFromToken(accessToken);
-                String nickname = jwtUtil.getNicknameFromToken(accessToken);
-
-                if (userId != null) {
-                    user = User.builder()
-                            .id(userId)
-                            .email(email)
-                            .nickname(nickname)
-                            .build();
-
-                    log.debug("User extracted - ID: {}, Email: {}, Nickname: {}", userId, email, nickname);
-                } else {
-                    log.warn("User ID is null in token");
-                }
-            } catch (Exception e) {
-                log.error("Error extracting user info from token", e);
-            }
+            user = User.builder()
+                    .id(principal.userId())
+                    .email(principal.email())
+                    .nickname(principal.nickname())
+                    .build();
+
+            log.debug("User extracted - ID: {}", principal.userId());
         } else {
-            log.warn("Access token validation failed - token is expired or invalid");
+            log.debug("Access token validation failed - {}", result.outcome().tag());
             // 만료된 토큰은 인증 실패 처리 (user는 null로 유지)
         }
 
         // user가 null이면 인증 실패
         if (user == null) {
-            log.warn("Authentication failed - user is null");
+            log.debug("Authentication failed - user is null");
             filterChain.doFilter(request, response);
             return;
         }
@@ -139,7 +125,7 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
-            log.info("✅ Authentication SUCCESS - User ID: {}, Nickname: {}", user.getId(), user.getNickname());
+            log.debug("Authentication SUCCESS - User ID: {}", user.getId());
             log.debug("===== Authentication Filter End =====");
         } catch (Exception e) {
             log.error("Error setting authentication in SecurityContext", e);
@@ -1,7 +1,6 @@
 package com.back.global.security;
 
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
 import org.springframework.security.oauth2.client.web.DefaultOAuth2AuthorizationRequestResolver;
 import org.springframework.security.oauth2.client.web.OAuth2AuthorizationRequestRedirectFilter;
@@ -9,33 +8,34 @@ import org.springframework.security.oauth2.client.web.OAuth2AuthorizationRequest
 import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
 import org.springframework.stereotype.Component;
 
-import java.nio.charset.StandardCharsets;
-import java.util.Base64;
-import java.util.UUID;
+import java.time.Instant;
 
+// 기본 resolver 와 state 코덱은 스레드 안전하므로 한 번만 만들어 재사용
 @Component
-@RequiredArgsConstructor
 public class CustomOAuth2AuthorizationRequestResolver implements OAuth2AuthorizationRequestResolver {
 
-    private final ClientRegistrationRepository clientRegistrationRepository;
+    private final DefaultOAuth2AuthorizationRequestResolver defaultResolver;
+    private final OAuth2StateCodec stateCodec;
 
-    private DefaultOAuth2AuthorizationRequestResolver createDefaultResolver() {
+    public CustomOAuth2AuthorizationRequestResolver(ClientRegistrationRepository clientRegistrationRepository,
+                                                    OAuth2StateCodec stateCodec) {
         // Spring Security 기본 Authorization URI 사용
-        return new DefaultOAuth2AuthorizationRequestResolver(
+        this.defaultResolver = new DefaultOAuth2AuthorizationRequestResolver(
                 clientRegistrationRepository,
                 OAuth2AuthorizationRequestRedirectFilter.DEFAULT_AUTHORIZATION_REQUEST_BASE_URI
         );
+        this.stateCodec = stateCodec;
     }
 
     @Override
     public OAuth2AuthorizationRequest resolve(HttpServletRequest request) {
-        OAuth2AuthorizationRequest req = createDefaultResolver().resolve(request);
+        OAuth2AuthorizationRequest req = defaultResolver.resolve(request);
         return customizeState(req, request);
     }
 
     @Override
     public OAuth2AuthorizationRequest resolve(HttpServletRequest request, String clientRegistrationId) {
-        OAuth2AuthorizationRequest req = createDefaultResolver().resolve(request, clientRegistrationId);
+        OAuth2AuthorizationRequest req = defaultResolver.resolve(request, clientRegistrationId);
         return customizeState(req, request);
     }
 
@@ -46,17 +46,9 @@ public class CustomOAuth2AuthorizationRequestResolver implements OAuth2Authoriza
         String redirectUrl = request.getParameter("redirectUrl");
         if (redirectUrl == null) redirectUrl = "/";
 
-        // CSRF 방지용 nonce 추가
-        String originState = UUID.randomUUID().toString();
-
-        // redirectUrl#originState 결합
-        String rawState = redirectUrl + "#" + originState;
-
-        // Base64 URL-safe 인코딩
-        String encodedState = Base64.getUrlEncoder().encodeToString(rawState.getBytes(StandardCharsets.UTF_8));
-
+        // redirectUrl + CSRF/재사용 방지 nonce + 발급 시각을 서명해서 state 로 (콜백에서 OAuth2StateVerifier 가 검증)
         return OAuth2AuthorizationRequest.from(req)
-                .state(encodedState) // state 교체
+                .state(stateCodec.encode(redirectUrl, Instant.now())) // state 교체
                 .build();
     }
 }
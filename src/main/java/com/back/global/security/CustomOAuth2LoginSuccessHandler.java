@@ -12,12 +12,17 @@ import org.springframework.security.web.authentication.AuthenticationSuccessHand
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.net.URI;
+import java.util.Objects;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class CustomOAuth2LoginSuccessHandler implements AuthenticationSuccessHandler {
 
+    // 프론트엔드 없이 테스트할 수 있도록 백엔드로 리다이렉트 (redirectUrl 을 지정하지 않은 경우)
+    private static final String DEFAULT_REDIRECT_URL = "/user/auth/login-success";
+
     private final UserAuthService userAuthService;
 
     @Value("${custom.site.frontUrl}")
@@ -40,13 +45,40 @@ public class CustomOAuth2LoginSuccessHandler implements AuthenticationSuccessHan
             throw e;
         }
 
-        // 실제 배포시 사용
-        // response.sendRedirect(frontendUrl + "/login/user/success");
-
-        // 프론트엔드 없이 테스트할 수 있도록 백엔드로 리다이렉트
-        String redirectUrl = "/user/auth/login-success";
+        // state 검증을 통과한 redirectUrl (OAuth2StateVerificationFilter), 허용된 프론트엔드 주소일 때만 사용
+        String requested = (String) request.getAttribute(OAuth2StateVerificationFilter.REDIRECT_URL_ATTRIBUTE);
+        String redirectUrl = Objects.requireNonNullElse(allowedRedirectUrl(requested, frontendUrl), DEFAULT_REDIRECT_URL);
         log.info("리다이렉트 URL: {}", redirectUrl);
         response.sendRedirect(redirectUrl);
         log.info("========== OAuth2 로그인 성공 핸들러 완료 ==========");
     }
+
+    // 오픈 리다이렉트 방지 - 허용 목록: 프론트엔드 기준 상대 경로, 프론트엔드와 origin 이 같은 절대 URL
+    // 지정하지 않았거나("/" 기본값) 허용되지 않으면 null
+    static String allowedRedirectUrl(String redirectUrl, String frontendUrl) {
+        if (redirectUrl == null || redirectUrl.equals("/") || redirectUrl.indexOf('\\') >= 0) return null;
+
+        try {
+            URI target = URI.create(redirectUrl);
+            if (!target.isAbsolute()) {
+                // "//host" 같은 스킴 상대 URL 은 다른 호스트로 갈 수 있으므로 제외
+                boolean path = target.getRawAuthority() == null && redirectUrl.startsWith("/") && !redirectUrl.startsWith("//");
+                return path ? frontendUrl + redirectUrl : null;
+            }
+
+            URI front = URI.create(frontendUrl);
+            boolean sameOrigin = front.getScheme().equalsIgnoreCase(target.getScheme())
+                    && front.getHost() != null && front.getHost().equalsIgnoreCase(target.getHost())
+                    && portOf(front) == portOf(target)
+                    && target.getRawUserInfo() == null;
+            return sameOrigin ? redirectUrl : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static int portOf(URI uri) {
+        if (uri.getPort() != -1) return uri.getPort();
+        return "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+    }
 }
\ No newline at end of file
@@ -2,35 +2,64 @@ package com.back.global.security;
 
 import com.back.domain.user.entity.User;
 import com.back.domain.user.service.UserAuthService;
+import com.back.global.metrics.AuthMetrics;
 import com.back.global.rsData.RsData;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.RestOperations;
 
 import java.util.Map;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
     private final UserAuthService userAuthService;
+    private final AuthMetrics authMetrics;
+
+    public CustomOAuth2UserService(UserAuthService userAuthService, RestOperations oauth2UserInfoRestOperations,
+                                   AuthMetrics authMetrics) {
+        this.userAuthService = userAuthService;
+        this.authMetrics = authMetrics;
+        setRestOperations(oauth2UserInfoRestOperations);
+    }
 
     // OAuth2 로그인 성공 시 자동 호출
+    // 제공자 HTTP 호출 동안 DB 커넥션을 잡지 않도록 트랜잭션은 findOrCreateOAuthUser 에서만 연다
     @Override
-    @Transactional
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
+        String provider = userRequest.getClientRegistration().getRegistrationId();
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            OAuth2User loaded = loadOAuthUser(userRequest, provider);
+            success = true;
+            return loaded;
+        } finally {
+            authMetrics.oauth2UserLoaded(provider, success, start);
+        }
+    }
+
+    private OAuth2User loadOAuthUser(OAuth2UserRequest userRequest, String provider) {
         log.info("========== CustomOAuth2UserService.loadUser 시작 ==========");
 
-        OAuth2User oAuth2User = super.loadUser(userRequest);
+        // 제공자 사용자 정보 HTTP 호출 지연은 따로 기록
+        long userInfoStart = System.nanoTime();
+        boolean userInfoLoaded = false;
+        OAuth2User oAuth2User;
+        try {
+            oAuth2User = super.loadUser(userRequest);
+            userInfoLoaded = true;
+        } finally {
+            authMetrics.oauth2UserInfoLoaded(provider, userInfoLoaded, userInfoStart);
+        }
         log.info("OAuth2User 로드 완료");
 
         String oauthUserId = "";
-        String providerTypeCode = userRequest.getClientRegistration().getRegistrationId().toUpperCase();
+        String providerTypeCode = provider.toUpperCase();
         String nickname = "";
         String email = "";
 
@@ -0,0 +1,247 @@
+package com.back.global.security;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * OAuth2 인가 요청을 HttpSession 대신 암호화된 단기 쿠키에 보관 (stateless 모드)
+ * 어느 노드가 콜백을 받아도 복원되므로 서버 메모리/세션 공유 없이 수평 확장 가능
+ * - 암호화: AES-256-GCM (기밀성 + 변조 검출), 키는 JWT 비밀키에서 용도별로 파생
+ * - 값: base64url(IV 12바이트 + 암호문 + 태그 16바이트)
+ * - 평문: 자바 직렬화 대신 필요한 필드만 쓰는 바이너리 형식 (약 2.5KB → 수백 바이트)
+ *   clientId, authorizationUri 는 registrationId 로 ClientRegistration 에서 다시 채움
+ *   authorizationRequestUri 는 콜백에서 쓰지 않으므로 저장하지 않음 (builder 가 다시 만듦)
+ * - 만료 전이고 콜백의 state 파라미터와 같을 때만 반환
+ * - 콜백은 제공자에서 돌아오는 top-level GET 이므로 SameSite=Lax 로 전송됨
+ */
+@Slf4j
+@Component
+public class OAuth2AuthorizationRequestCookieRepository implements AuthorizationRequestRepository<OAuth2AuthorizationRequest> {
+
+    static final String COOKIE_NAME = "oauth2_auth_request";
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final String CIPHER = "AES/GCM/NoPadding";
+    private static final int IV_BYTES = 12;
+    private static final int TAG_BITS = 128;
+    private static final byte[] AAD = COOKIE_NAME.getBytes(StandardCharsets.US_ASCII);
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final ClientRegistrationRepository clientRegistrationRepository;
+    private final SecretKeySpec key;
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final Duration ttl;
+    private final boolean cookieSecure;
+
+    public OAuth2AuthorizationRequestCookieRepository(ClientRegistrationRepository clientRegistrationRepository,
+                                                       @Value("${custom.jwt.secretKey}") String secretKey,
+                                                       @Value("${custom.oauth2.stateCookie.ttlSeconds:180}") long ttlSeconds,
+                                                       @Value("${custom.cookie.secure:false}") boolean cookieSecure) {
+        this.clientRegistrationRepository = clientRegistrationRepository;
+        this.key = new SecretKeySpec(derive(secretKey, "oauth2-authorization-request"), "AES");
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.cookieSecure = cookieSecure;
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest loadAuthorizationRequest(HttpServletRequest request) {
+        String state = request.getParameter(OAuth2ParameterNames.STATE);
+        if (state == null) return null;
+
+        OAuth2AuthorizationRequest authorizationRequest = read(request);
+        return authorizationRequest != null && state.equals(authorizationRequest.getState()) ? authorizationRequest : null;
+    }
+
+    @Override
+    public void saveAuthorizationRequest(OAuth2AuthorizationRequest authorizationRequest, HttpServletRequest request,
+                                         HttpServletResponse response) {
+        if (authorizationRequest == null) {
+            removeCookie(response);
+            return;
+        }
+        addCookie(response, encode(authorizationRequest, Instant.now().plus(ttl)), ttl);
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest removeAuthorizationRequest(HttpServletRequest request, HttpServletResponse response) {
+        OAuth2AuthorizationRequest authorizationRequest = loadAuthorizationRequest(request);
+        if (authorizationRequest != null) removeCookie(response);
+        return authorizationRequest;
+    }
+
+    String encode(OAuth2AuthorizationRequest authorizationRequest, Instant expiresAt) {
+        byte[] plain = serialize(authorizationRequest, expiresAt);
+        byte[] iv = new byte[IV_BYTES];
+        secureRandom.nextBytes(iv);
+        try {
+            Cipher cipher = Cipher.getInstance(CIPHER);
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, iv));
+            cipher.updateAAD(AAD);
+            byte[] sealed = Arrays.copyOf(iv, IV_BYTES + cipher.getOutputSize(plain.length));
+            cipher.doFinal(plain, 0, plain.length, sealed, IV_BYTES);
+            return ENCODER.encodeToString(sealed);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(CIPHER + " not available", e);
+        }
+    }
+
+    // 복호화 실패(변조, 다른 키), 만료, 형식 오류, 없는 등록 ID 는 모두 null (인가 요청 없음 → 로그인 실패 처리)
+    OAuth2AuthorizationRequest decode(String value, Instant now) {
+        try {
+            byte[] sealed = DECODER.decode(value);
+            if (sealed.length <= IV_BYTES) return null;
+
+            Cipher cipher = Cipher.getInstance(CIPHER);
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, sealed, 0, IV_BYTES));
+            cipher.updateAAD(AAD);
+            byte[] plain = cipher.doFinal(sealed, IV_BYTES, sealed.length - IV_BYTES);
+            return deserialize(plain, now);
+        } catch (GeneralSecurityException | IllegalArgumentException | IOException e) {
+            log.debug("OAuth2 인가 요청 쿠키 해석 실패: {}", e.getClass().getSimpleName());
+            return null;
+        }
+    }
+
+    // 버전, 만료(초), registrationId, state, redirectUri, scopes, additionalParameters, attributes
+    private static byte[] serialize(OAuth2AuthorizationRequest request, Instant expiresAt) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeLong(expiresAt.getEpochSecond());
+            out.writeUTF(registrationId(request));
+            out.writeUTF(request.getState());
+            out.writeUTF(request.getRedirectUri());
+            writeStrings(out, request.getScopes());
+            writeMap(out, request.getAdditionalParameters(), Set.of());
+            writeMap(out, request.getAttributes(), Set.of(OAuth2ParameterNames.REGISTRATION_ID));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private OAuth2AuthorizationRequest deserialize(byte[] plain, Instant now) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(plain));
+        if (in.readByte() != FORMAT_VERSION) return null;
+        if (in.readLong() < now.getEpochSecond()) return null;
+
+        String registrationId = in.readUTF();
+        ClientRegistration registration = clientRegistrationRepository.findByRegistrationId(registrationId);
+        if (registration == null) return null;
+
+        String state = in.readUTF();
+        String redirectUri = in.readUTF();
+        Set<String> scopes = readStrings(in);
+        Map<String, Object> additionalParameters = readMap(in);
+        Map<String, Object> attributes = readMap(in);
+        attributes.put(OAuth2ParameterNames.REGISTRATION_ID, registrationId);
+
+        return OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri(registration.getProviderDetails().getAuthorizationUri())
+                .clientId(registration.getClientId())
+                .redirectUri(redirectUri)
+                .scopes(scopes)
+                .state(state)
+                .additionalParameters(additionalParameters)
+                .attributes(attributes)
+                .build();
+    }
+
+    private static String registrationId(OAuth2AuthorizationRequest request) {
+        Object registrationId = request.getAttribute(OAuth2ParameterNames.REGISTRATION_ID);
+        if (registrationId == null) throw new IllegalArgumentException("registration_id attribute is required");
+        return registrationId.toString();
+    }
+
+    private static void writeStrings(DataOutputStream out, Collection<String> values) throws IOException {
+        out.writeByte(values.size());
+        for (String value : values) out.writeUTF(value);
+    }
+
+    private static Set<String> readStrings(DataInputStream in) throws IOException {
+        int size = in.readUnsignedByte();
+        Set<String> values = new LinkedHashSet<>(size * 2);
+        for (int i = 0; i < size; i++) values.add(in.readUTF());
+        return values;
+    }
+
+    // 기본 resolver 가 넣는 값은 모두 문자열 (nonce, PKCE code_verifier/code_challenge 등)
+    private static void writeMap(DataOutputStream out, Map<String, Object> map, Set<String> skip) throws IOException {
+        List<Map.Entry<String, Object>> entries = map.entrySet().stream()
+                .filter(entry -> !skip.contains(entry.getKey()))
+                .toList();
+        out.writeByte(entries.size());
+        for (Map.Entry<String, Object> entry : entries) {
+            out.writeUTF(entry.getKey());
+            out.writeUTF(String.valueOf(entry.getValue()));
+        }
+    }
+
+    private static Map<String, Object> readMap(DataInputStream in) throws IOException {
+        int size = in.readUnsignedByte();
+        Map<String, Object> map = new LinkedHashMap<>(size * 2);
+        for (int i = 0; i < size; i++) map.put(in.readUTF(), in.readUTF());
+        return map;
+    }
+
+    private OAuth2AuthorizationRequest read(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) return null;
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName()) && !cookie.getValue().isEmpty()) {
+                return decode(cookie.getValue(), Instant.now());
+            }
+        }
+        return null;
+    }
+
+    private void addCookie(HttpServletResponse response, String value, Duration maxAge) {
+        ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, value)
+                .path("/")
+                .httpOnly(true)
+                .secure(cookieSecure)
+                .sameSite("Lax")
+                .maxAge(maxAge)
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    private void removeCookie(HttpServletResponse response) {
+        addCookie(response, "", Duration.ZERO);
+    }
+
+    // HMAC-SHA256(비밀키, 용도) → 256비트 AES 키
+    private static byte[] derive(String secret, String purpose) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return mac.doFinal(purpose.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
+    }
+}
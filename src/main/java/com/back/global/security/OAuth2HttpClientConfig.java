@@ -0,0 +1,94 @@
+package com.back.global.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.converter.FormHttpMessageConverter;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AccessTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AuthorizationCodeGrantRequest;
+import org.springframework.security.oauth2.client.endpoint.RestClientAuthorizationCodeTokenResponseClient;
+import org.springframework.security.oauth2.client.http.OAuth2ErrorResponseErrorHandler;
+import org.springframework.security.oauth2.core.http.converter.OAuth2AccessTokenResponseHttpMessageConverter;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestOperations;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * OAuth 제공자(카카오/구글/네이버) 호출용 HTTP 클라이언트 설정.
+ * 토큰 교환과 사용자 정보 조회가 oauth2HttpClient 빈 하나(JDK HttpClient + 작업 executor)를 공유한다.
+ */
+@Configuration
+public class OAuth2HttpClientConfig {
+
+    @Bean(destroyMethod = "close")
+    OAuth2HttpClient oauth2HttpClient(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${custom.oauth2.http.connectTimeoutMs:3000}") long connectTimeoutMs,
+            @Value("${custom.oauth2.http.readTimeoutMs:5000}") long readTimeoutMs) {
+        return OAuth2HttpClient.create(virtualThreads, connectTimeoutMs, readTimeoutMs);
+    }
+
+    @Bean
+    public RestOperations oauth2UserInfoRestOperations(OAuth2HttpClient oauth2HttpClient) {
+        return userInfoRestOperations(oauth2HttpClient.requestFactory());
+    }
+
+    @Bean
+    public OAuth2AccessTokenResponseClient<OAuth2AuthorizationCodeGrantRequest> oauth2AccessTokenResponseClient(
+            OAuth2HttpClient oauth2HttpClient) {
+        RestClient restClient = RestClient.builder()
+                .requestFactory(oauth2HttpClient.requestFactory())
+                .messageConverters(converters -> {
+                    converters.clear();
+                    converters.add(new FormHttpMessageConverter());
+                    converters.add(new OAuth2AccessTokenResponseHttpMessageConverter());
+                })
+                .defaultStatusHandler(new OAuth2ErrorResponseErrorHandler())
+                .build();
+
+        RestClientAuthorizationCodeTokenResponseClient client = new RestClientAuthorizationCodeTokenResponseClient();
+        client.setRestClient(restClient);
+        return client;
+    }
+
+    // DefaultOAuth2UserService 기본 RestTemplate과 같은 에러 핸들러, 요청 팩토리만 교체
+    static RestOperations userInfoRestOperations(ClientHttpRequestFactory requestFactory) {
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.setErrorHandler(new OAuth2ErrorResponseErrorHandler());
+        return restTemplate;
+    }
+
+    // HttpClient.close() 는 builder 로 넘긴 executor 를 닫지 않으므로 종료 시 함께 닫음
+    record OAuth2HttpClient(HttpClient httpClient, ExecutorService executor,
+                            ClientHttpRequestFactory requestFactory) implements AutoCloseable {
+
+        // 가상 스레드 모드면 HttpClient 내부 작업도 가상 스레드에서 처리 (JDK 클라이언트는 락 기반이라 pinning 없음)
+        // 아니면 JDK 기본값과 같은 캐시 풀 (데몬 스레드)
+        static OAuth2HttpClient create(boolean virtualThreads, long connectTimeoutMs, long readTimeoutMs) {
+            ExecutorService executor = virtualThreads
+                    ? Executors.newVirtualThreadPerTaskExecutor()
+                    : Executors.newCachedThreadPool(Thread.ofPlatform().name("oauth2-http-", 0).daemon().factory());
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                    .executor(executor)
+                    .build();
+
+            JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+            factory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+            return new OAuth2HttpClient(httpClient, executor, factory);
+        }
+
+        @Override
+        public void close() {
+            httpClient.close();
+            executor.close();
+        }
+    }
+}
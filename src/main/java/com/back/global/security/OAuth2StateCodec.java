@@ -0,0 +1,136 @@
+package com.back.global.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * OAuth2 state 파라미터 인코더/디코더 (애플리케이션에 하나, 스레드 안전)
+ * 바이너리 형식 (base64url, 패딩 없음):
+ * [0] 버전 | [1..4] 발급 시각(초, uint32) | [5..20] nonce 16바이트 | redirectUrl(UTF-8) | HMAC-SHA256 앞 16바이트
+ * - 고정 길이 머리 부분은 디코딩한 버퍼에서 바로 읽어 버전/시각을 먼저 거르고, 통과한 것만 HMAC 비교
+ * - redirectUrl 문자열은 서명이 맞은 뒤에만 만듦
+ * - Mac 은 스레드 안전하지 않으므로 초기화된 원본을 복제해서 사용 (요청마다 getInstance/init 하지 않음)
+ */
+@Component
+public class OAuth2StateCodec {
+
+    static final int HEADER_BYTES = 21;
+    static final int MAC_BYTES = 16;
+    static final int MAX_REDIRECT_BYTES = 512;
+
+    private static final byte VERSION = 1;
+    private static final String DEFAULT_REDIRECT = "/";
+    private static final long CLOCK_SKEW_SECONDS = 30;
+    private static final int ENCODED_MAX_LENGTH = (HEADER_BYTES + MAX_REDIRECT_BYTES + MAC_BYTES + 2) / 3 * 4;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final Mac prototype;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public OAuth2StateCodec(@Value("${custom.jwt.secretKey}") String secretKey) {
+        try {
+            Mac derive = Mac.getInstance("HmacSHA256");
+            derive.init(new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            byte[] key = derive.doFinal("oauth2-state".getBytes(StandardCharsets.UTF_8));
+
+            this.prototype = Mac.getInstance("HmacSHA256");
+            this.prototype.init(new SecretKeySpec(key, "HmacSHA256"));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
+    }
+
+    public String encode(String redirectUrl, Instant issuedAt) {
+        byte[] redirect = redirectBytes(redirectUrl);
+        byte[] state = new byte[HEADER_BYTES + redirect.length + MAC_BYTES];
+
+        state[0] = VERSION;
+        writeInt(state, 1, (int) issuedAt.getEpochSecond());
+        byte[] nonce = new byte[16];
+        secureRandom.nextBytes(nonce);
+        System.arraycopy(nonce, 0, state, 5, nonce.length);
+        System.arraycopy(redirect, 0, state, HEADER_BYTES, redirect.length);
+        System.arraycopy(mac(state, HEADER_BYTES + redirect.length), 0, state, HEADER_BYTES + redirect.length, MAC_BYTES);
+
+        return ENCODER.encodeToString(state);
+    }
+
+    /**
+     * 형식, 유효 기간(발급 후 window 초, 미래 시각 허용 오차 30초), 서명 확인
+     * @return 실패하면 null
+     */
+    public DecodedState decode(String state, Instant now, long windowSeconds) {
+        if (state == null || state.length() > ENCODED_MAX_LENGTH) return null;
+
+        byte[] bytes;
+        try {
+            bytes = DECODER.decode(state);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        int signedLength = bytes.length - MAC_BYTES;
+        if (signedLength < HEADER_BYTES || bytes[0] != VERSION) return null;
+
+        long issuedAt = readInt(bytes, 1) & 0xFFFFFFFFL;
+        long age = now.getEpochSecond() - issuedAt;
+        if (age > windowSeconds || age < -CLOCK_SKEW_SECONDS) return null;
+
+        // 상수 시간 비교 (앞 16바이트만)
+        byte[] expected = mac(bytes, signedLength);
+        int diff = 0;
+        for (int i = 0; i < MAC_BYTES; i++) diff |= expected[i] ^ bytes[signedLength + i];
+        if (diff != 0) return null;
+
+        return new DecodedState(
+                new Nonce(readLong(bytes, 5), readLong(bytes, 13)),
+                issuedAt,
+                new String(bytes, HEADER_BYTES, signedLength - HEADER_BYTES, StandardCharsets.UTF_8));
+    }
+
+    private byte[] mac(byte[] data, int length) {
+        try {
+            Mac mac = (Mac) prototype.clone();
+            mac.update(data, 0, length);
+            return mac.doFinal();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("HmacSHA256 clone not supported", e);
+        }
+    }
+
+    // 너무 긴 redirectUrl 은 기본값으로 (state 가 URL 길이 제한을 넘지 않도록)
+    private static byte[] redirectBytes(String redirectUrl) {
+        byte[] bytes = (redirectUrl == null ? DEFAULT_REDIRECT : redirectUrl).getBytes(StandardCharsets.UTF_8);
+        return bytes.length > MAX_REDIRECT_BYTES ? DEFAULT_REDIRECT.getBytes(StandardCharsets.UTF_8) : bytes;
+    }
+
+    private static void writeInt(byte[] bytes, int offset, int value) {
+        for (int i = 0; i < 4; i++) bytes[offset + i] = (byte) (value >>> (24 - 8 * i));
+    }
+
+    private static int readInt(byte[] bytes, int offset) {
+        int value = 0;
+        for (int i = 0; i < 4; i++) value = (value << 8) | (bytes[offset + i] & 0xFF);
+        return value;
+    }
+
+    private static long readLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) value = (value << 8) | (bytes[offset + i] & 0xFF);
+        return value;
+    }
+
+    public record Nonce(long high, long low) {
+    }
+
+    public record DecodedState(Nonce nonce, long issuedAt, String redirectUrl) {
+    }
+}
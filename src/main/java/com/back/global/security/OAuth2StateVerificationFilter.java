@@ -0,0 +1,54 @@
+package com.back.global.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * OAuth2 콜백(/login/oauth2/code/*) 에서 토큰 교환 전에 state 를 검증
+ * 실패하면 제공자 토큰 엔드포인트를 호출하지 않고 로그인 실패 핸들러로 보냄
+ * 통과한 redirectUrl 은 요청 속성(REDIRECT_URL_ATTRIBUTE)으로 전달 (CustomOAuth2LoginSuccessHandler 가 허용 목록 검사 후 사용)
+ */
+@Component
+@RequiredArgsConstructor
+public class OAuth2StateVerificationFilter extends OncePerRequestFilter {
+
+    public static final String REDIRECT_URL_ATTRIBUTE = OAuth2StateVerificationFilter.class.getName() + ".redirectUrl";
+
+    private static final String CALLBACK_PREFIX = "/login/oauth2/code/";
+
+    private final OAuth2StateVerifier stateVerifier;
+    private final CustomOAuth2LoginFailureHandler failureHandler;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(CALLBACK_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String state = request.getParameter(OAuth2ParameterNames.STATE);
+        // state 없는 콜백(제공자 오류 응답 등)은 Spring Security 가 처리
+        if (state != null) {
+            String redirectUrl = stateVerifier.verify(state, Instant.now());
+            if (redirectUrl == null) {
+                failureHandler.onAuthenticationFailure(request, response,
+                        new OAuth2AuthenticationException(new OAuth2Error("invalid_state_parameter", "Invalid state", null)));
+                return;
+            }
+            request.setAttribute(REDIRECT_URL_ATTRIBUTE, redirectUrl);
+        }
+        filterChain.doFilter(request, response);
+    }
+}
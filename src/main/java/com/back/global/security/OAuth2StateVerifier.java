@@ -0,0 +1,53 @@
+package com.back.global.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * OAuth2 콜백 state 검증 (변조, 만료, 재사용 거부)
+ * - 서명/유효 기간은 OAuth2StateCodec, 재사용은 window 동안 본 nonce 집합으로 판단
+ * - nonce 집합은 크기 제한 + window 후 만료 (window 가 지난 state 는 시각 검사에서 이미 거부되므로 더 기억할 필요 없음)
+ * - 서명이 맞은 state 의 nonce 만 기록하므로 위조 요청으로 집합을 채울 수 없음
+ * - 노드별 집합이라 같은 state 를 다른 노드로 재전송하는 것은 막지 못함 (인가 코드 자체가 일회용)
+ */
+@Slf4j
+@Component
+public class OAuth2StateVerifier {
+
+    private final OAuth2StateCodec codec;
+    private final long windowSeconds;
+    private final Cache<OAuth2StateCodec.Nonce, Boolean> seen;
+
+    public OAuth2StateVerifier(OAuth2StateCodec codec,
+                               @Value("${custom.oauth2.state.windowSeconds:180}") long windowSeconds,
+                               @Value("${custom.oauth2.state.maxNonces:100000}") long maxNonces) {
+        this.codec = codec;
+        this.windowSeconds = windowSeconds;
+        this.seen = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(windowSeconds + 60)) // 미래 시각 허용 오차 포함
+                .maximumSize(maxNonces)
+                .build();
+    }
+
+    /**
+     * @return 검증을 통과하면 state 에 담긴 redirectUrl, 아니면 null
+     */
+    public String verify(String state, Instant now) {
+        OAuth2StateCodec.DecodedState decoded = codec.decode(state, now, windowSeconds);
+        if (decoded == null) {
+            log.warn("OAuth2 state 거부 - 형식/서명/만료");
+            return null;
+        }
+        if (seen.asMap().putIfAbsent(decoded.nonce(), Boolean.TRUE) != null) {
+            log.warn("OAuth2 state 거부 - 재사용");
+            return null;
+        }
+        return decoded.redirectUrl();
+    }
+}
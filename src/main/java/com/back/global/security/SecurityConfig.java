@@ -3,14 +3,20 @@ package com.back.global.security;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AccessTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AuthorizationCodeGrantRequest;
+import org.springframework.security.oauth2.client.web.OAuth2LoginAuthenticationFilter;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.security.web.savedrequest.NullRequestCache;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -28,34 +34,49 @@ public class SecurityConfig {
     @Value("${custom.dev.backUrl}")
     private String backUrl;
 
+    // true: HttpSession 을 만들거나 조회하지 않음 (OAuth2 인가 요청은 서명 쿠키)
+    @Value("${custom.security.stateless:true}")
+    private boolean stateless;
+
     private final CustomOAuth2UserService customOAuth2UserService;
     private final CustomOAuth2LoginSuccessHandler oauth2SuccessHandler;
     private final CustomOAuth2LoginFailureHandler oauth2FailureHandler;
     private final CustomOAuth2AuthorizationRequestResolver customOAuth2AuthorizationRequestResolver;
     private final CustomAuthenticationFilter customAuthenticationFilter;
+    private final OAuth2AccessTokenResponseClient<OAuth2AuthorizationCodeGrantRequest> oauth2AccessTokenResponseClient;
+    private final OAuth2AuthorizationRequestCookieRepository authorizationRequestCookieRepository;
+    private final OAuth2StateVerificationFilter oauth2StateVerificationFilter;
 
     public SecurityConfig(CustomOAuth2UserService customOAuth2UserService,
                           CustomOAuth2LoginSuccessHandler oauth2SuccessHandler,
                           CustomOAuth2LoginFailureHandler oauth2FailureHandler,
                           CustomOAuth2AuthorizationRequestResolver customOAuth2AuthorizationRequestResolver,
-                          CustomAuthenticationFilter customAuthenticationFilter) {
+                          CustomAuthenticationFilter customAuthenticationFilter,
+                          OAuth2AccessTokenResponseClient<OAuth2AuthorizationCodeGrantRequest> oauth2AccessTokenResponseClient,
+                          OAuth2AuthorizationRequestCookieRepository authorizationRequestCookieRepository,
+                          OAuth2StateVerificationFilter oauth2StateVerificationFilter) {
         this.customOAuth2UserService = customOAuth2UserService;
         this.oauth2SuccessHandler = oauth2SuccessHandler;
         this.oauth2FailureHandler = oauth2FailureHandler;
         this.customOAuth2AuthorizationRequestResolver = customOAuth2AuthorizationRequestResolver;
         this.customAuthenticationFilter = customAuthenticationFilter;
+        this.oauth2AccessTokenResponseClient = oauth2AccessTokenResponseClient;
+        this.authorizationRequestCookieRepository = authorizationRequestCookieRepository;
+        this.oauth2StateVerificationFilter = oauth2StateVerificationFilter;
     }
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, Environment environment) throws Exception {
+        // 관리 포트(management.server.port, 내부망 전용)로 들어온 요청, 포트는 관리 서버가 뜬 뒤에 정해짐
+        RequestMatcher managementPort = request -> {
+            Integer port = environment.getProperty("local.management.port", Integer.class);
+            return port != null && port > 0 && request.getLocalPort() == port;
+        };
+
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
-                .sessionManagement(session -> session
-                        .sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED)
-                        .maximumSessions(1)
-                ) // OAuth 인증시 필요할때만 세션 사용
-
                 .addFilterBefore(customAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(oauth2StateVerificationFilter, OAuth2LoginAuthenticationFilter.class)
                 .authorizeHttpRequests(auth -> auth
 
                                 // OAuth, GET POST 둘 다 사용
@@ -63,6 +84,11 @@ public class SecurityConfig {
                                 .requestMatchers("/login/oauth2/**").permitAll()
                                 .requestMatchers("/h2-console/**").permitAll()
 
+                                // Actuator: 관리 포트에서는 prometheus 포함 전체, 같은 포트로 띄운 경우 공개 포트에서는 health 만
+                                .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                                .requestMatchers(managementPort).permitAll()
+                                .requestMatchers("/actuator/**").denyAll()
+
                                 //.anyRequest().authenticated() // 나머지 모든 API는 인증 필요
                                 .anyRequest().permitAll() // 테스트를 위해 모두 허용
 
@@ -70,8 +96,14 @@ public class SecurityConfig {
                 .formLogin(AbstractHttpConfigurer::disable)
                 .httpBasic(AbstractHttpConfigurer::disable)
                 .oauth2Login(oauth2 -> oauth2
-                        .authorizationEndpoint(authorization -> authorization
-                                .authorizationRequestResolver(customOAuth2AuthorizationRequestResolver)
+                        .authorizationEndpoint(authorization -> {
+                            authorization.authorizationRequestResolver(customOAuth2AuthorizationRequestResolver);
+                            if (stateless) {
+                                authorization.authorizationRequestRepository(authorizationRequestCookieRepository);
+                            }
+                        })
+                        .tokenEndpoint(token -> token
+                                .accessTokenResponseClient(oauth2AccessTokenResponseClient)
                         )
                         .userInfoEndpoint(userInfo -> userInfo
                                 .userService(customOAuth2UserService)
@@ -93,6 +125,18 @@ public class SecurityConfig {
                 )
                 .headers(headers -> headers.frameOptions(HeadersConfigurer.FrameOptionsConfig::sameOrigin));
 
+        if (stateless) {
+            // 세션 생성/조회 없음, 인증은 요청마다 JWT 로 (동시 세션 레지스트리, 요청 캐시도 쓰지 않음)
+            http
+                    .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                    .requestCache(cache -> cache.requestCache(new NullRequestCache()));
+        } else {
+            http.sessionManagement(session -> session
+                    .sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED)
+                    .maximumSessions(1)
+            ); // OAuth 인증시 필요할때만 세션 사용
+        }
+
         return http.build();
     }
 
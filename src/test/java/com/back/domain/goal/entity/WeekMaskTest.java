@@ -0,0 +1,48 @@
+package com.back.domain.goal.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeekMaskTest {
+
+    // 모든 마스크 x 시작 요일 x 기간을 하루씩 세는 방식과 비교
+    @Test
+    void bitOperationsMatchDayByDayScan() {
+        LocalDate sunday = LocalDate.of(2026, 10, 18);
+        for (int bits = 0; bits <= 127; bits++) {
+            WeekMask mask = WeekMask.ofBits(bits);
+            for (int offset = 0; offset < 7; offset++) {
+                LocalDate from = sunday.plusDays(offset);
+
+                LocalDate next = from.plusDays(1);
+                while (!mask.isScheduled(next)) next = next.plusDays(1);
+                assertThat(mask.nextScheduledAfter(from)).isEqualTo(next);
+
+                int count = 0;
+                for (int length = 0; length < 30; length++) {
+                    LocalDate to = from.plusDays(length);
+                    if (mask.isScheduled(to)) count++;
+                    assertThat(mask.countScheduled(from, to)).isEqualTo(count);
+                }
+            }
+        }
+    }
+
+    @Test
+    void emptyMaskMeansEveryDay() {
+        WeekMask monWedFri = WeekMask.of(Set.of(1, 3, 5));
+        LocalDate friday = LocalDate.of(2026, 10, 23);
+
+        assertThat(monWedFri.bits()).isEqualTo(0b0101010);
+        assertThat(monWedFri.days()).containsExactly(1, 3, 5);
+        assertThat(monWedFri.nextScheduledAfter(friday)).isEqualTo(friday.plusDays(3));
+        assertThat(WeekMask.of(List.of())).isSameAs(WeekMask.EVERY_DAY);
+        assertThat(WeekMask.EVERY_DAY.countScheduled(friday, friday.plusDays(13))).isEqualTo(14);
+        assertThat(WeekMask.EVERY_DAY.days()).isEmpty();
+    }
+}
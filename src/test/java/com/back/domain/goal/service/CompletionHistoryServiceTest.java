@@ -0,0 +1,97 @@
+package com.back.domain.goal.service;
+
+import com.back.domain.goal.dto.CompletionBatchReqDto;
+import com.back.domain.goal.dto.CompletionHistoryDto;
+import com.back.domain.goal.entity.Goal;
+import com.back.domain.goal.entity.SubGoal;
+import com.back.domain.goal.repository.GoalRepository;
+import com.back.global.exception.ServiceException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CompletionHistoryServiceTest {
+
+    @Autowired
+    private CompletionHistoryService completionHistoryService;
+
+    @Autowired
+    private SubGoalCompletionService subGoalCompletionService;
+
+    @Autowired
+    private GoalRepository goalRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void pagesThroughTiedTimestampsWithoutGapsOrOverlaps() {
+        UUID userId = UUID.randomUUID();
+        Goal goal = Goal.builder().userId(userId).title("목표").build();
+        SubGoal first = goal.addSubGoal("서브 1");
+        SubGoal second = goal.addSubGoal("서브 2");
+        goalRepository.save(goal);
+        startGoalOn(goal.getId(), LocalDate.of(2026, 10, 1));
+
+        // 같은 시각 기록이 페이지 경계에 걸치도록 3건씩 같은 시각
+        LocalDateTime base = LocalDateTime.of(2026, 10, 1, 9, 0);
+        List<CompletionBatchReqDto.Item> items = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            items.add(CompletionBatchReqDto.Item.builder()
+                    .subGoalId(i % 2 == 0 ? first.getId() : second.getId())
+                    .completedAt(base.plusMinutes(i / 3))
+                    .clientEventId("event-" + i)
+                    .build());
+        }
+        subGoalCompletionService.recordBatch(userId, items);
+
+        Set<Long> seen = new HashSet<>();
+        List<CompletionHistoryDto.Item> all = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CompletionHistoryDto page = completionHistoryService.getHistory(userId, null, null, cursor, 5);
+            page.getItems().forEach(item -> assertThat(seen.add(item.getId())).isTrue());
+            all.addAll(page.getItems());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(all).hasSize(12);
+        for (int i = 1; i < all.size(); i++) {
+            assertThat(all.get(i).getCompletedAt()).isBeforeOrEqualTo(all.get(i - 1).getCompletedAt());
+        }
+
+        assertThat(completionHistoryService.getHistory(userId, null, first.getId(), null, 20).getItems()).hasSize(6);
+        assertThat(completionHistoryService.getHistory(UUID.randomUUID(), goal.getId(), null, null, 20).getItems()).isEmpty();
+        assertThatThrownBy(() -> completionHistoryService.getHistory(userId, null, null, "not-a-cursor", 5))
+                .isInstanceOf(ServiceException.class);
+    }
+
+    // 과거 날짜의 달성 기록을 넣을 수 있도록 목표 시작일(생성일)을 앞당김
+    private void startGoalOn(UUID goalId, LocalDate date) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(
+                "UPDATE goals SET created_at = ? WHERE id = ?", Timestamp.valueOf(date.atStartOfDay()), goalId));
+    }
+}
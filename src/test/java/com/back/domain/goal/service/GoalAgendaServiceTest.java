@@ -0,0 +1,106 @@
+package com.back.domain.goal.service;
+
+import com.back.domain.goal.dto.CompletionBatchReqDto;
+import com.back.domain.goal.dto.GoalAgendaDto;
+import com.back.domain.goal.entity.Goal;
+import com.back.domain.goal.entity.SubGoal;
+import com.back.domain.goal.repository.GoalRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class GoalAgendaServiceTest {
+
+    @Autowired
+    private GoalAgendaService goalAgendaService;
+
+    @Autowired
+    private GoalAgendaCache goalAgendaCache;
+
+    @Autowired
+    private SubGoalCompletionService subGoalCompletionService;
+
+    @Autowired
+    private GoalRepository goalRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void agendaIsCachedAndPatchedOnCompletion() {
+        UUID userId = UUID.randomUUID();
+        LocalDate monday = LocalDate.of(2026, 10, 12);
+
+        Goal scheduled = Goal.builder().userId(userId).title("월 수").scheduleDays(Set.of(1, 3)).build();
+        SubGoal reading = scheduled.addSubGoal("읽기");
+        SubGoal writing = scheduled.addSubGoal("쓰기");
+        goalRepository.save(scheduled);
+        goalRepository.save(Goal.builder().userId(userId).title("주말").scheduleDays(Set.of(0, 6)).build());
+        startGoalOn(scheduled.getId(), monday);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        GoalAgendaDto first = goalAgendaService.getAgenda(userId, monday);
+        assertThat(first.getGoals()).extracting(GoalAgendaDto.GoalItem::getTitle).containsExactly("월 수");
+        assertThat(first.getGoals().get(0).getSubGoals()).noneMatch(GoalAgendaDto.SubGoalItem::isCompleted);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        // 캐시 적중: 쿼리 없음
+        assertThat(goalAgendaService.getAgenda(userId, monday)).isSameAs(first);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        subGoalCompletionService.recordBatch(userId, List.of(CompletionBatchReqDto.Item.builder()
+                .subGoalId(reading.getId())
+                .completedAt(monday.atTime(8, 30))
+                .clientEventId("agenda-1")
+                .build()));
+
+        // 다시 적재하지 않고 달성 표시만 바뀐 사본
+        statistics.clear();
+        GoalAgendaDto patched = goalAgendaService.getAgenda(userId, monday);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(patched.getGoals().get(0).getSubGoals())
+                .extracting(GoalAgendaDto.SubGoalItem::getId, GoalAgendaDto.SubGoalItem::isCompleted)
+                .containsExactly(
+                        tuple(reading.getId(), true),
+                        tuple(writing.getId(), false));
+
+        // 새로 적재한 결과와 같음
+        goalAgendaCache.evictUser(userId);
+        GoalAgendaDto reloaded = goalAgendaService.getAgenda(userId, monday);
+        assertThat(reloaded).isNotSameAs(patched);
+        assertThat(reloaded.getGoals().get(0).getSubGoals())
+                .extracting(GoalAgendaDto.SubGoalItem::isCompleted)
+                .containsExactly(true, false);
+    }
+
+    // 과거 날짜의 달성 기록을 넣을 수 있도록 목표 시작일(생성일)을 앞당김
+    private void startGoalOn(UUID goalId, LocalDate date) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(
+                "UPDATE goals SET created_at = ? WHERE id = ?", Timestamp.valueOf(date.atStartOfDay()), goalId));
+    }
+}
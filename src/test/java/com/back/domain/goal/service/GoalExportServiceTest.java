@@ -0,0 +1,108 @@
+package com.back.domain.goal.service;
+
+import com.back.domain.goal.dto.CompletionBatchReqDto;
+import com.back.domain.goal.entity.Goal;
+import com.back.domain.goal.entity.SubGoal;
+import com.back.domain.goal.repository.GoalRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 청크 경계를 여러 번 넘도록 작은 청크 크기
+@SpringBootTest(properties = "custom.goalExport.chunkSize=2")
+@ActiveProfiles("test")
+class GoalExportServiceTest {
+
+    @Autowired
+    private GoalExportService goalExportService;
+
+    @Autowired
+    private SubGoalCompletionService subGoalCompletionService;
+
+    @Autowired
+    private GoalRepository goalRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void exportsWholeHistoryAsNdjsonAndCsv() throws Exception {
+        UUID userId = UUID.randomUUID();
+        Goal goal = Goal.builder().userId(userId).title("운동, \"매일\"").scheduleDays(Set.of(1, 3)).build();
+        SubGoal subGoal = goal.addSubGoal("=1+1 달리기");
+        goalRepository.save(goal);
+        startGoalOn(goal.getId(), LocalDate.of(2026, 10, 1));
+
+        List<CompletionBatchReqDto.Item> items = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            items.add(CompletionBatchReqDto.Item.builder()
+                    .subGoalId(subGoal.getId())
+                    .completedAt(LocalDateTime.of(2026, 10, 1 + i, 7, 0))
+                    .clientEventId("export-" + i)
+                    .build());
+        }
+        subGoalCompletionService.recordBatch(userId, items);
+
+        // 다른 사용자 데이터는 포함되지 않음
+        Goal others = Goal.builder().userId(UUID.randomUUID()).title("남의 목표").build();
+        others.addSubGoal("남의 서브 목표");
+        goalRepository.save(others);
+
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        goalExportService.export(userId, GoalExportFormat.NDJSON, ndjson);
+        List<String> lines = ndjson.toString(StandardCharsets.UTF_8).lines().toList();
+
+        // 목표 1 + 서브 목표 1 + 수행 요일 2 + 달성 3
+        assertThat(lines).hasSize(7);
+        List<String> types = new ArrayList<>();
+        for (String line : lines) {
+            JsonNode node = objectMapper.readTree(line);
+            types.add(node.get("type").asText());
+        }
+        assertThat(types).containsExactly("goal", "subGoal", "scheduleDay", "scheduleDay", "completion", "completion", "completion");
+        assertThat(objectMapper.readTree(lines.get(0)).get("title").asText()).isEqualTo("운동, \"매일\"");
+        assertThat(objectMapper.readTree(lines.get(4)).get("completedAt").asText()).isEqualTo("2026-10-01T07:00");
+        assertThat(objectMapper.readTree(lines.get(6)).get("completedAt").asText()).isEqualTo("2026-10-03T07:00");
+
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        goalExportService.export(userId, GoalExportFormat.CSV, csv);
+        List<String> rows = csv.toString(StandardCharsets.UTF_8).lines().toList();
+
+        assertThat(rows).hasSize(8);
+        assertThat(rows.get(0)).isEqualTo("type,id,goalId,subGoalId,title,dayOfWeek,timestamp");
+        assertThat(rows.get(1)).contains(",\"운동, \"\"매일\"\"\",");
+        assertThat(rows.get(3)).isEqualTo("scheduleDay,," + goal.getId() + ",,,1,");
+        // 수식으로 시작하는 값은 CSV 에서만 ' 로 무력화
+        assertThat(rows.get(2)).contains(",'=1+1 달리기,");
+        assertThat(objectMapper.readTree(lines.get(1)).get("title").asText()).isEqualTo("=1+1 달리기");
+    }
+
+    // 과거 날짜의 달성 기록을 넣을 수 있도록 목표 시작일(생성일)을 앞당김
+    private void startGoalOn(UUID goalId, LocalDate date) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(
+                "UPDATE goals SET created_at = ? WHERE id = ?", Timestamp.valueOf(date.atStartOfDay()), goalId));
+    }
+}
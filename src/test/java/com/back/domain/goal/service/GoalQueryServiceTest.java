@@ -0,0 +1,146 @@
+package com.back.domain.goal.service;
+
+import com.back.domain.goal.dto.CompletionBatchReqDto;
+import com.back.domain.goal.dto.GoalTreeDto;
+import com.back.domain.goal.dto.GoalTreeReqDto;
+import com.back.domain.goal.entity.Goal;
+import com.back.domain.goal.entity.SubGoal;
+import com.back.domain.goal.repository.GoalRepository;
+import com.back.domain.user.entity.User;
+import com.back.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class GoalQueryServiceTest {
+
+    @Autowired
+    private GoalQueryService goalQueryService;
+
+    @Autowired
+    private SubGoalCompletionService subGoalCompletionService;
+
+    @Autowired
+    private GoalTreeService goalTreeService;
+
+    @Autowired
+    private GoalRepository goalRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void goalTreeLoadsInConstantStatements() {
+        UUID userId = UUID.randomUUID();
+        for (int i = 0; i < 50; i++) {
+            Goal goal = Goal.builder()
+                    .userId(userId)
+                    .title("목표 " + i)
+                    .scheduleDays(Set.of(1, 3, 5))
+                    .build();
+            goal.addSubGoal("서브 목표 A");
+            goal.addSubGoal("서브 목표 B");
+            goal.addSubGoal("서브 목표 C");
+            goalRepository.save(goal);
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<GoalTreeDto> tree = goalQueryService.getGoalTree(userId);
+
+        assertThat(tree).hasSize(50);
+        assertThat(tree).allSatisfy(goal -> {
+            assertThat(goal.getSubGoals()).hasSize(3);
+            assertThat(goal.getScheduleDays()).containsExactly(1, 3, 5);
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void etagChangesOnlyWhenGoalsChange() {
+        UUID userId = newUser();
+        LocalDate today = LocalDate.of(2026, 10, 12);
+        Goal goal = Goal.builder().userId(userId).title("독서").build();
+        SubGoal reading = goal.addSubGoal("읽기");
+        goalRepository.save(goal);
+        startGoalOn(goal.getId(), today);
+
+        String etag = goalQueryService.revisionETag(userId, today);
+        String statsETag = goalQueryService.statsETag(userId, goal.getId(), today).orElseThrow();
+        assertThat(goalQueryService.revisionETag(userId, today)).isEqualTo(etag);
+        assertThat(goalQueryService.revisionETag(userId, today.plusDays(1))).isNotEqualTo(etag);
+        assertThat(goalQueryService.statsETag(UUID.randomUUID(), goal.getId(), today)).isEmpty();
+
+        subGoalCompletionService.recordBatch(userId, List.of(CompletionBatchReqDto.Item.builder()
+                .subGoalId(reading.getId())
+                .completedAt(today.atTime(7, 0))
+                .clientEventId("etag-1")
+                .build()));
+
+        assertThat(goalQueryService.revisionETag(userId, today)).isNotEqualTo(etag);
+        assertThat(goalQueryService.statsETag(userId, goal.getId(), today)).get().isNotEqualTo(statsETag);
+    }
+
+    @Test
+    void etagChangesAfterDeleteThenCreate() {
+        UUID userId = newUser();
+        LocalDate today = LocalDate.of(2026, 10, 19);
+        UUID goalId = goalTreeService.createAll(userId, List.of(tree("운동"))).get(0).getId();
+        String etag = goalQueryService.revisionETag(userId, today);
+
+        // 수정 이력이 없는 목표를 지우고 새로 만들면 목표 수/버전 합은 그대로지만 ETag 는 달라야 함
+        goalTreeService.delete(userId, goalId);
+        String deletedETag = goalQueryService.revisionETag(userId, today);
+        goalTreeService.createAll(userId, List.of(tree("독서")));
+
+        assertThat(deletedETag).isNotEqualTo(etag);
+        assertThat(goalQueryService.revisionETag(userId, today))
+                .isNotEqualTo(etag)
+                .isNotEqualTo(deletedETag);
+    }
+
+    private UUID newUser() {
+        return userRepository.save(User.builder()
+                .nickname("etag-" + UUID.randomUUID().toString().substring(0, 8))
+                .build()).getId();
+    }
+
+    private static GoalTreeReqDto tree(String title) {
+        return GoalTreeReqDto.builder()
+                .title(title)
+                .subGoals(List.of(GoalTreeReqDto.SubGoalItem.builder().title(title + " 하기").build()))
+                .build();
+    }
+
+    // 과거 날짜의 달성 기록을 넣을 수 있도록 목표 시작일(생성일)을 앞당김
+    private void startGoalOn(UUID goalId, LocalDate date) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(
+                "UPDATE goals SET created_at = ? WHERE id = ?", Timestamp.valueOf(date.atStartOfDay()), goalId));
+    }
+}
@@ -0,0 +1,99 @@
+package com.back.domain.goal.service;
+
+import com.back.domain.goal.dto.CompletionBatchReqDto;
+import com.back.domain.goal.dto.GoalStatsDto;
+import com.back.domain.goal.entity.Goal;
+import com.back.domain.goal.entity.SubGoal;
+import com.back.domain.goal.repository.GoalRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class GoalStatsServiceTest {
+
+    // 2026-10-05 월요일
+    private static final LocalDate MON = LocalDate.of(2026, 10, 5);
+
+    @Autowired
+    private SubGoalCompletionService subGoalCompletionService;
+
+    @Autowired
+    private GoalStatsService goalStatsService;
+
+    @Autowired
+    private GoalStatsBackfillJob goalStatsBackfillJob;
+
+    @Autowired
+    private GoalRepository goalRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void streaksAndRatesFollowScheduleDaysIncrementallyAndAfterBackfill() {
+        UUID userId = UUID.randomUUID();
+        Goal goal = Goal.builder().userId(userId).title("운동").scheduleDays(Set.of(1, 3, 5)).build(); // 월 수 금
+        SubGoal subGoal = goal.addSubGoal("스쿼트");
+        goalRepository.save(goal);
+        startGoalOn(goal.getId(), MON);
+
+        // 월 수 금 월 (4연속), 화(수행 요일 아님), 수 빠짐, 금 → 현재 1, 최고 4
+        record(userId, subGoal, MON, MON.plusDays(2), MON.plusDays(4), MON.plusDays(7), MON.plusDays(8), MON.plusDays(11));
+
+        LocalDate saturday = MON.plusDays(12);
+        GoalStatsDto stats = goalStatsService.getStats(userId, goal.getId(), 2, saturday);
+        assertThat(stats.getCurrentStreak()).isEqualTo(1);
+        assertThat(stats.getBestStreak()).isEqualTo(4);
+        assertThat(stats.getScheduledDays()).isEqualTo(6);
+        assertThat(stats.getCompletedDays()).isEqualTo(5);
+
+        // 다음 수행 요일(월)을 지나면 끊김
+        assertThat(goalStatsService.getStats(userId, goal.getId(), 2, MON.plusDays(15)).getCurrentStreak()).isZero();
+
+        // 빠졌던 수요일이 뒤늦게 동기화되면 연속 기록 재계산
+        record(userId, subGoal, MON.plusDays(9));
+        stats = goalStatsService.getStats(userId, goal.getId(), 2, saturday);
+        assertThat(stats.getCurrentStreak()).isEqualTo(6);
+        assertThat(stats.getBestStreak()).isEqualTo(6);
+        assertThat(stats.getCompletionRate()).isEqualTo(1.0);
+
+        // 백필로 다시 만들어도 같은 결과, 목표 버전(통계 ETag)은 올라감
+        long version = goalRepository.findById(goal.getId()).orElseThrow().getVersion();
+        goalStatsBackfillJob.backfill();
+        GoalStatsDto rebuilt = goalStatsService.getStats(userId, goal.getId(), 2, saturday);
+        assertThat(rebuilt).usingRecursiveComparison().isEqualTo(stats);
+        assertThat(goalRepository.findById(goal.getId()).orElseThrow().getVersion()).isGreaterThan(version);
+    }
+
+    private void record(UUID userId, SubGoal subGoal, LocalDate... dates) {
+        subGoalCompletionService.recordBatch(userId, Arrays.stream(dates)
+                .map(date -> CompletionBatchReqDto.Item.builder()
+                        .subGoalId(subGoal.getId())
+                        .completedAt(date.atTime(9, 0))
+                        .clientEventId(UUID.randomUUID().toString())
+                        .build())
+                .toList());
+    }
+
+    // 과거 날짜의 달성 기록을 넣을 수 있도록 목표 시작일(생성일)을 앞당김
+    private void startGoalOn(UUID goalId, LocalDate date) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(
+                "UPDATE goals SET created_at = ? WHERE id = ?", Timestamp.valueOf(date.atStartOfDay()), goalId));
+    }
+}
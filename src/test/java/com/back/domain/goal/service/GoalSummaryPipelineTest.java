@@ -0,0 +1,103 @@
+package com.back.domain.goal.service;
+
+import com.back.domain.goal.dto.CompletionBatchReqDto;
+import com.back.domain.goal.entity.Goal;
+import com.back.domain.goal.entity.SubGoal;
+import com.back.domain.goal.entity.Summary;
+import com.back.domain.goal.repository.GoalRepository;
+import com.back.domain.goal.repository.SummaryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class GoalSummaryPipelineTest {
+
+    @Autowired
+    private GoalSummaryPipeline goalSummaryPipeline;
+
+    @Autowired
+    private GoalSummaryService goalSummaryService;
+
+    @Autowired
+    private SubGoalCompletionService subGoalCompletionService;
+
+    @Autowired
+    private GoalRepository goalRepository;
+
+    @Autowired
+    private SummaryRepository summaryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void completionsAreDebouncedIntoOneRegenerationPerGoal() throws Exception {
+        UUID userId = UUID.randomUUID();
+        Goal goal = Goal.builder().userId(userId).title("운동").scheduleDays(Set.of()).build();
+        SubGoal running = goal.addSubGoal("달리기");
+        SubGoal stretching = goal.addSubGoal("스트레칭");
+        goalRepository.save(goal);
+
+        // 세 번 나눠 저장해도 대기열에는 목표 하나
+        long requestedBefore = goalSummaryPipeline.stats().requested();
+        LocalDateTime base = LocalDateTime.now().minusDays(2);
+        startGoalOn(goal.getId(), base.toLocalDate());
+        for (int batch = 0; batch < 3; batch++) {
+            List<CompletionBatchReqDto.Item> items = new ArrayList<>();
+            items.add(item(running.getId(), base.plusDays(batch), "summary-run-" + batch));
+            if (batch == 0) items.add(item(stretching.getId(), base, "summary-stretch"));
+            subGoalCompletionService.recordBatch(userId, items);
+        }
+        assertThat(goalSummaryPipeline.stats().requested() - requestedBefore).isEqualTo(3);
+        assertThat(summaryRepository.findByGoalId(goal.getId())).isEmpty();
+        assertThat(goalSummaryService.findStaleGoalIds(1000, LocalDate.now())).contains(goal.getId());
+
+        // 디바운스 시간이 지난 시점으로 dispatch
+        goalSummaryPipeline.dispatch(System.nanoTime() + TimeUnit.HOURS.toNanos(1));
+        assertThat(goalSummaryPipeline.awaitIdle(Duration.ofSeconds(10))).isTrue();
+
+        Summary summary = summaryRepository.findByGoalId(goal.getId()).orElseThrow();
+        assertThat(summary.getCompletionCount()).isEqualTo(4);
+        assertThat(summary.getContent())
+                .startsWith("'운동' 목표를 총 4회 달성했어요. 현재 3회 연속 달성 중이고 최고 기록은 3회 연속이에요.")
+                .endsWith(" 가장 꾸준한 서브 목표는 '달리기' (3회)예요.");
+        assertThat(summary.getGeneratedOn()).isEqualTo(LocalDate.now());
+        assertThat(goalSummaryService.findStaleGoalIds(1000, LocalDate.now())).doesNotContain(goal.getId());
+        // 달성 기록이 그대로여도 날짜가 바뀌면 연속/최근 N주 문장이 달라지므로 다시 생성 대상
+        assertThat(goalSummaryService.findStaleGoalIds(1000, LocalDate.now().plusDays(1))).contains(goal.getId());
+    }
+
+    private CompletionBatchReqDto.Item item(UUID subGoalId, LocalDateTime completedAt, String clientEventId) {
+        return CompletionBatchReqDto.Item.builder()
+                .subGoalId(subGoalId)
+                .completedAt(completedAt)
+                .clientEventId(clientEventId)
+                .build();
+    }
+
+    // 과거 날짜의 달성 기록을 넣을 수 있도록 목표 시작일(생성일)을 앞당김
+    private void startGoalOn(UUID goalId, LocalDate date) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(
+                "UPDATE goals SET created_at = ? WHERE id = ?", Timestamp.valueOf(date.atStartOfDay()), goalId));
+    }
+}
@@ -0,0 +1,154 @@
+package com.back.domain.goal.service;
+
+import com.back.domain.goal.dto.CompletionBatchReqDto;
+import com.back.domain.goal.dto.GoalStatsDto;
+import com.back.domain.goal.dto.GoalTreeDto;
+import com.back.domain.goal.dto.GoalTreeReqDto;
+import com.back.domain.goal.entity.SubGoal;
+import com.back.domain.goal.repository.GoalRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class GoalTreeServiceTest {
+
+    @Autowired
+    private GoalTreeService goalTreeService;
+
+    @Autowired
+    private GoalQueryService goalQueryService;
+
+    @Autowired
+    private GoalRepository goalRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private SubGoalCompletionService subGoalCompletionService;
+
+    @Autowired
+    private GoalStatsService goalStatsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void createsManyGoalsWithBatchedInsertsAndReplacesOnlyWhatChanged() {
+        UUID userId = UUID.randomUUID();
+        List<GoalTreeReqDto> trees = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            trees.add(tree("목표 " + i, List.of(1, 3, 5), sub(null, "A"), sub(null, "B"), sub(null, "C")));
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<GoalTreeDto> created = goalTreeService.createAll(userId, trees);
+
+        assertThat(created).hasSize(10).allSatisfy(goal -> {
+            assertThat(goal.getSubGoals()).hasSize(3);
+            assertThat(goal.getScheduleDays()).containsExactly(1, 3, 5);
+        });
+        // goals / goals_sub / goal_schedule_days 각각 배치 INSERT 1회 + 사용자 리비전 UPDATE 1회
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+
+        GoalTreeDto target = created.get(0);
+        UUID a = target.getSubGoals().get(0).getId();
+        UUID b = target.getSubGoals().get(1).getId();
+        UUID c = target.getSubGoals().get(2).getId();
+
+        // 같은 내용: 쓰기 없음
+        statistics.clear();
+        goalTreeService.replace(userId, target.getId(), tree("목표 0", List.of(5, 3, 1), sub(a, "A"), sub(b, "B"), sub(c, "C")));
+        assertThat(statistics.getEntityInsertCount() + statistics.getEntityUpdateCount() + statistics.getEntityDeleteCount()).isZero();
+        assertThat(statistics.getCollectionUpdateCount()).isZero();
+
+        // 제목 하나 변경, 하나 삭제, 하나 추가, 요일 변경
+        statistics.clear();
+        GoalTreeDto replaced = goalTreeService.replace(userId, target.getId(),
+                tree("목표 0", List.of(1, 3), sub(a, "A'"), sub(c, "C"), sub(null, "D")));
+        // 서브 목표: INSERT 1, UPDATE 1, DELETE 1 (그대로인 C 는 건드리지 않음)
+        EntityStatistics subGoalStats = statistics.getEntityStatistics(SubGoal.class.getName());
+        assertThat(subGoalStats.getInsertCount()).isEqualTo(1);
+        assertThat(subGoalStats.getUpdateCount()).isEqualTo(1);
+        assertThat(subGoalStats.getDeleteCount()).isEqualTo(1);
+        assertThat(replaced.getScheduleDays()).containsExactly(1, 3);
+
+        GoalTreeDto reloaded = goalQueryService.getGoalTree(userId).stream()
+                .filter(goal -> goal.getId().equals(target.getId()))
+                .findFirst().orElseThrow();
+        assertThat(reloaded.getScheduleDays()).containsExactly(1, 3);
+        assertThat(reloaded.getSubGoals()).extracting(GoalTreeDto.SubGoalDto::getTitle)
+                .containsExactlyInAnyOrder("A'", "C", "D");
+        assertThat(goalRepository.findById(target.getId()).orElseThrow().getScheduleMask().days()).containsExactly(1, 3);
+    }
+
+    @Test
+    void removingSubGoalRebuildsGoalStats() {
+        UUID userId = UUID.randomUUID();
+        LocalDate mon = LocalDate.of(2026, 10, 5);
+        GoalTreeDto goal = goalTreeService.createAll(userId, List.of(tree("독서", List.of(), sub(null, "A"), sub(null, "B")))).get(0);
+        UUID a = goal.getSubGoals().get(0).getId();
+        UUID b = goal.getSubGoals().get(1).getId();
+        startGoalOn(goal.getId(), mon);
+
+        // A: 월 화 수, B: 목 → 4일 연속
+        record(userId, a, mon, mon.plusDays(1), mon.plusDays(2));
+        record(userId, b, mon.plusDays(3));
+        assertThat(goalStatsService.getStats(userId, goal.getId(), 1, mon.plusDays(3)).getBestStreak()).isEqualTo(4);
+
+        // B 삭제 → B 의 달성 기록이 빠진 집계로 다시 계산
+        goalTreeService.replace(userId, goal.getId(), tree("독서", List.of(), sub(a, "A")));
+
+        GoalStatsDto stats = goalStatsService.getStats(userId, goal.getId(), 1, mon.plusDays(3));
+        assertThat(stats.getBestStreak()).isEqualTo(3);
+        assertThat(stats.getLastCompletedDate()).isEqualTo(mon.plusDays(2));
+        assertThat(stats.getCompletedDays()).isEqualTo(3);
+    }
+
+    private void record(UUID userId, UUID subGoalId, LocalDate... dates) {
+        subGoalCompletionService.recordBatch(userId, Arrays.stream(dates)
+                .map(date -> CompletionBatchReqDto.Item.builder()
+                        .subGoalId(subGoalId)
+                        .completedAt(date.atTime(9, 0))
+                        .clientEventId(UUID.randomUUID().toString())
+                        .build())
+                .toList());
+    }
+
+    private static GoalTreeReqDto tree(String title, List<Integer> days, GoalTreeReqDto.SubGoalItem... subGoals) {
+        return GoalTreeReqDto.builder().title(title).scheduleDays(days).subGoals(List.of(subGoals)).build();
+    }
+
+    private static GoalTreeReqDto.SubGoalItem sub(UUID id, String title) {
+        return GoalTreeReqDto.SubGoalItem.builder().id(id).title(title).build();
+    }
+
+    // 과거 날짜의 달성 기록을 넣을 수 있도록 목표 시작일(생성일)을 앞당김
+    private void startGoalOn(UUID goalId, LocalDate date) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(
+                "UPDATE goals SET created_at = ? WHERE id = ?", Timestamp.valueOf(date.atStartOfDay()), goalId));
+    }
+}
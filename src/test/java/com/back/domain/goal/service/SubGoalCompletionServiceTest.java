@@ -0,0 +1,111 @@
+package com.back.domain.goal.service;
+
+import com.back.domain.goal.dto.CompletionBatchReqDto;
+import com.back.domain.goal.dto.CompletionBatchResDto;
+import com.back.domain.goal.entity.Goal;
+import com.back.domain.goal.entity.SubGoal;
+import com.back.domain.goal.repository.GoalRepository;
+import com.back.global.exception.ServiceException;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class SubGoalCompletionServiceTest {
+
+    @Autowired
+    private SubGoalCompletionService subGoalCompletionService;
+
+    @Autowired
+    private GoalRepository goalRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void batchIsDeduplicatedOwnershipCheckedAndInsertedInBatches() {
+        UUID userId = UUID.randomUUID();
+        SubGoal mine = saveGoalWithSubGoal(userId);
+        SubGoal others = saveGoalWithSubGoal(UUID.randomUUID());
+
+        List<CompletionBatchReqDto.Item> items = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            items.add(item(mine.getId(), "event-" + i));
+        }
+        items.add(item(mine.getId(), "event-0"));      // 요청 안 중복
+        items.add(item(others.getId(), "foreign"));    // 남의 서브 목표
+        items.add(item(mine.getId(), " "));            // 형식 오류
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        CompletionBatchResDto first = subGoalCompletionService.recordBatch(userId, items);
+
+        assertThat(first.getInserted()).isEqualTo(120);
+        assertThat(first.getDuplicates()).isEqualTo(1);
+        assertThat(first.getRejected()).containsExactlyInAnyOrder("foreign", " ");
+        // 소유권 1 + 중복 조회 1 + (시퀀스 1 + 배치 INSERT 1) x 50건 단위 + 목표 집계(수행 요일, 연속 기록 조회/저장) 3 + 목표 버전 1
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2 + 2 * 3 + 3 + 1);
+
+        // 재전송은 전부 중복 처리
+        CompletionBatchResDto retry = subGoalCompletionService.recordBatch(userId, items);
+        assertThat(retry.getInserted()).isZero();
+        assertThat(retry.getDuplicates()).isEqualTo(121);
+    }
+
+    @Test
+    void completedAtInTheFutureOrBeforeGoalStartIsRejected() {
+        UUID userId = UUID.randomUUID();
+        SubGoal subGoal = saveGoalWithSubGoal(userId);
+
+        // 시계 오차 허용 범위를 넘는 미래 → 배치 전체 거절
+        List<CompletionBatchReqDto.Item> future = List.of(
+                item(subGoal.getId(), "ok-1"),
+                item(subGoal.getId(), "future", LocalDateTime.now().plusDays(1)));
+        assertThatThrownBy(() -> subGoalCompletionService.recordBatch(userId, future))
+                .isInstanceOf(ServiceException.class)
+                .hasMessageStartingWith("400 : 완료 시각이 현재보다 미래일 수 없습니다.");
+
+        // 목표를 만든 날보다 이전 → 거절, 앞선 항목도 저장되지 않음
+        List<CompletionBatchReqDto.Item> beforeStart = List.of(
+                item(subGoal.getId(), "ok-1"),
+                item(subGoal.getId(), "before-start", LocalDateTime.now().minusDays(1)));
+        assertThatThrownBy(() -> subGoalCompletionService.recordBatch(userId, beforeStart))
+                .isInstanceOf(ServiceException.class)
+                .hasMessageStartingWith("400 : 완료 시각이 목표 시작일");
+
+        assertThat(subGoalCompletionService.recordBatch(userId, List.of(item(subGoal.getId(), "ok-1"))).getInserted()).isEqualTo(1);
+    }
+
+    private SubGoal saveGoalWithSubGoal(UUID userId) {
+        Goal goal = Goal.builder().userId(userId).title("목표").build();
+        SubGoal subGoal = goal.addSubGoal("서브 목표");
+        goalRepository.save(goal);
+        return subGoal;
+    }
+
+    private CompletionBatchReqDto.Item item(UUID subGoalId, String clientEventId) {
+        return item(subGoalId, clientEventId, LocalDateTime.now());
+    }
+
+    private CompletionBatchReqDto.Item item(UUID subGoalId, String clientEventId, LocalDateTime completedAt) {
+        return CompletionBatchReqDto.Item.builder()
+                .subGoalId(subGoalId)
+                .completedAt(completedAt)
+                .clientEventId(clientEventId)
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.back.global.jwt;
+
+import com.back.global.metrics.AuthMetrics;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-token-generation-and-validation-purposes-only";
+
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET, 60, "localhost",
+            new AccessTokenCache(true, 100), new AuthMetrics(new SimpleMeterRegistry()));
+
+    @Test
+    void signedTokenWithoutSubjectIsInvalid() {
+        String noSubject = Jwts.builder()
+                .claim("email", "nosub@example.com")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        AccessTokenResult result = jwtUtil.checkAccessToken(noSubject);
+
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.outcome()).isEqualTo(AuthOutcome.INVALID);
+        assertThat(jwtUtil.checkAccessToken(jwtUtil.generateAccessToken(UUID.randomUUID(), "a@b.c", "닉")).isValid()).isTrue();
+    }
+}
@@ -0,0 +1,47 @@
+package com.back.global.jwt;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenExtractorTest {
+
+    @Test
+    void scansCookieHeaderOnceForBothTokens() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Cookie", "JSESSIONID=abc; flag; accessToken = \"acc.tok.en\" ;theme=dark;refreshToken=ref; accessToken=second");
+
+        RequestTokens tokens = TokenExtractor.extract(request);
+
+        assertThat(tokens.accessToken()).isEqualTo("acc.tok.en");
+        assertThat(tokens.refreshToken()).isEqualTo("ref");
+        assertThat(tokens.isAccessTokenFromHeader()).isFalse();
+        assertThat(TokenExtractor.extract(request)).isSameAs(tokens);
+    }
+
+    @Test
+    void bearerHeaderWinsOverCookieAndBlankValuesAreIgnored() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer header.token ");
+        request.addHeader("Cookie", "accessToken=cookie.token; refreshToken=  ");
+
+        RequestTokens tokens = TokenExtractor.scan(request);
+
+        assertThat(tokens.accessToken()).isEqualTo("header.token");
+        assertThat(tokens.isAccessTokenFromHeader()).isTrue();
+        assertThat(tokens.refreshToken()).isNull();
+    }
+
+    @Test
+    void blankBearerFallsBackToCookie() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer ");
+        request.addHeader("Cookie", "xaccessToken=nope; accessToken=cookie.token");
+
+        RequestTokens tokens = TokenExtractor.scan(request);
+
+        assertThat(tokens.accessToken()).isEqualTo("cookie.token");
+        assertThat(tokens.isAccessTokenFromHeader()).isFalse();
+    }
+}
@@ -0,0 +1,166 @@
+package com.back.global.jwt.refreshToken.store;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class RefreshTokenStoreTest {
+
+    private static RespStandInServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        redisServer = new RespStandInServer();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", redisServer.port()));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        connectionFactory.destroy();
+        redisServer.close();
+    }
+
+    static Stream<Arguments> stores() {
+        return Stream.of(
+                Arguments.of("memory", new InMemoryRefreshTokenStore(4)),
+                Arguments.of("redis", new RedisRefreshTokenStore(new StringRedisTemplate(connectionFactory)))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("stores")
+    void saveFindTouchDelete(String name, RefreshTokenStore store) {
+        StoredRefreshToken token = StoredRefreshToken.create(UUID.randomUUID().toString(), UUID.randomUUID(), 3600);
+        store.save(token);
+
+        StoredRefreshToken found = store.find(token.token()).orElseThrow();
+        assertThat(found.userId()).isEqualTo(token.userId());
+        assertThat(found.expiresAt()).isCloseTo(token.expiresAt(), within(1, ChronoUnit.MILLIS));
+
+        LocalDateTime usedAt = LocalDateTime.now().plusMinutes(5);
+        store.touch(token.token(), usedAt);
+        assertThat(store.find(token.token()).orElseThrow().lastUsedAt()).isCloseTo(usedAt, within(1, ChronoUnit.MILLIS));
+
+        store.delete(token.token());
+        assertThat(store.find(token.token())).isEmpty();
+
+        // 삭제된 토큰은 touch 해도 다시 생기지 않음
+        store.touch(token.token(), LocalDateTime.now());
+        assertThat(store.find(token.token())).isEmpty();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("stores")
+    void rotateHandsOutOldTokenOnlyOnce(String name, RefreshTokenStore store) {
+        UUID userId = UUID.randomUUID();
+        StoredRefreshToken old = StoredRefreshToken.create(UUID.randomUUID().toString(), userId, 3600);
+        StoredRefreshToken sibling = StoredRefreshToken.create(UUID.randomUUID().toString(), userId, 3600);
+        store.save(old);
+        store.save(sibling);
+
+        AtomicInteger calls = new AtomicInteger();
+        StoredRefreshToken next = StoredRefreshToken.create(UUID.randomUUID().toString(), userId, 3600);
+
+        assertThat(store.rotate(old.token(), prev -> {
+            calls.incrementAndGet();
+            return next;
+        })).isPresent();
+        assertThat(store.rotate(old.token(), prev -> {
+            calls.incrementAndGet();
+            return next;
+        })).isEmpty();
+
+        assertThat(calls).hasValue(1);
+        assertThat(store.find(old.token())).isEmpty();
+        assertThat(store.find(next.token())).isPresent();
+        // 회전 시 같은 사용자의 다른 토큰도 폐기 (로그인 발급과 동일하게 사용자당 토큰 하나)
+        assertThat(store.find(sibling.token())).isEmpty();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("stores")
+    void deleteAllForUser(String name, RefreshTokenStore store) {
+        UUID userId = UUID.randomUUID();
+        StoredRefreshToken first = StoredRefreshToken.create(UUID.randomUUID().toString(), userId, 3600);
+        StoredRefreshToken second = StoredRefreshToken.create(UUID.randomUUID().toString(), userId, 3600);
+        StoredRefreshToken other = StoredRefreshToken.create(UUID.randomUUID().toString(), UUID.randomUUID(), 3600);
+        store.save(first);
+        store.save(second);
+        store.save(other);
+
+        store.deleteAllForUser(userId);
+
+        assertThat(store.find(first.token())).isEmpty();
+        assertThat(store.find(second.token())).isEmpty();
+        assertThat(store.find(other.token())).isPresent();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("stores")
+    void replaceAllForUser(String name, RefreshTokenStore store) {
+        UUID userId = UUID.randomUUID();
+        StoredRefreshToken first = StoredRefreshToken.create(UUID.randomUUID().toString(), userId, 3600);
+        StoredRefreshToken second = StoredRefreshToken.create(UUID.randomUUID().toString(), userId, 3600);
+        StoredRefreshToken other = StoredRefreshToken.create(UUID.randomUUID().toString(), UUID.randomUUID(), 3600);
+        store.save(first);
+        store.save(second);
+        store.save(other);
+
+        StoredRefreshToken next = StoredRefreshToken.create(UUID.randomUUID().toString(), userId, 3600);
+        store.replaceAllForUser(next);
+
+        assertThat(store.find(first.token())).isEmpty();
+        assertThat(store.find(second.token())).isEmpty();
+        assertThat(store.find(next.token())).isPresent();
+        assertThat(store.find(other.token())).isPresent();
+
+        // 교체된 토큰도 사용자 단위 삭제 대상
+        store.deleteAllForUser(userId);
+        assertThat(store.find(next.token())).isEmpty();
+    }
+
+    @Test
+    void memoryStoreExpiresTokens() {
+        InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore(4);
+        StoredRefreshToken expired = StoredRefreshToken.create("expired", UUID.randomUUID(), -1);
+        StoredRefreshToken live = StoredRefreshToken.create("live", UUID.randomUUID(), 3600);
+        store.save(expired);
+        store.save(live);
+
+        assertThat(store.purgeExpired(LocalDateTime.now(), LocalDateTime.now().minusHours(1))).isEqualTo(1);
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.find("expired")).isEmpty();
+    }
+
+    @Test
+    void redisStoreUsesNativeTtl() {
+        RedisRefreshTokenStore store = new RedisRefreshTokenStore(new StringRedisTemplate(connectionFactory));
+        StoredRefreshToken token = StoredRefreshToken.create(UUID.randomUUID().toString(), UUID.randomUUID(), 3600);
+        store.save(token);
+
+        assertThat(redisServer.hasTtl("refresh_token:" + token.token())).isTrue();
+        assertThat(redisServer.hasTtl("refresh_token:" + token.token() + ":last_used")).isTrue();
+
+        redisServer.expireNow("refresh_token:" + token.token());
+        assertThat(store.find(token.token())).isEmpty();
+        assertThat(store.purgeExpired(LocalDateTime.now(), LocalDateTime.now().minusHours(1))).isZero();
+    }
+}
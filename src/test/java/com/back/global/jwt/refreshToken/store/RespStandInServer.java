@@ -0,0 +1,282 @@
+package com.back.global.jwt.refreshToken.store;
+
+import java.io.*;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 테스트용 Redis 프로토콜(RESP2) 서버
+ * RedisRefreshTokenStore 가 사용하는 명령만 지원 (문자열, Set, TTL, WATCH/MULTI/EXEC)
+ */
+class RespStandInServer implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Map<String, Object> data = new ConcurrentHashMap<>();
+    private final Map<String, Long> expireAt = new ConcurrentHashMap<>();
+    private final Map<String, Long> versions = new ConcurrentHashMap<>(); // WATCH 용 키별 변경 횟수
+
+    RespStandInServer() throws IOException {
+        serverSocket = new ServerSocket(0);
+        executor.submit(this::acceptLoop);
+    }
+
+    int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    boolean hasTtl(String key) {
+        return expireAt.containsKey(key);
+    }
+
+    void expireNow(String key) {
+        expireAt.put(key, 0L);
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                executor.submit(() -> serve(socket));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket) {
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            OutputStream out = new BufferedOutputStream(socket.getOutputStream());
+            Session session = new Session();
+            while (true) {
+                List<String> command = readCommand(in);
+                if (command == null) return;
+                synchronized (this) {
+                    write(out, dispatch(session, command));
+                }
+                out.flush();
+            }
+        } catch (IOException ignored) {
+        }
+    }
+
+    private List<String> readCommand(InputStream in) throws IOException {
+        String header = readLine(in);
+        if (header == null) return null;
+        int count = Integer.parseInt(header.substring(1));
+        List<String> args = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int length = Integer.parseInt(readLine(in).substring(1));
+            byte[] bytes = in.readNBytes(length);
+            in.readNBytes(2);
+            args.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+        return args;
+    }
+
+    private String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == '\r') {
+                in.read();
+                return line.toString();
+            }
+            line.append((char) b);
+        }
+        return null;
+    }
+
+    // 연결 단위 트랜잭션 명령 처리, 나머지는 execute
+    private Object dispatch(Session session, List<String> command) {
+        String name = command.get(0).toUpperCase(Locale.ROOT);
+        List<String> args = command.subList(1, command.size());
+        switch (name) {
+            case "WATCH":
+                args.forEach(key -> session.watched.put(key, versions.getOrDefault(key, 0L)));
+                return new Status("OK");
+            case "UNWATCH":
+                session.watched.clear();
+                return new Status("OK");
+            case "MULTI":
+                session.queued = new ArrayList<>();
+                return new Status("OK");
+            case "DISCARD":
+                session.queued = null;
+                session.watched.clear();
+                return new Status("OK");
+            case "EXEC": {
+                boolean changed = session.watched.entrySet().stream()
+                        .anyMatch(entry -> !versions.getOrDefault(entry.getKey(), 0L).equals(entry.getValue()));
+                List<List<String>> queued = session.queued;
+                session.queued = null;
+                session.watched.clear();
+                if (changed) return NullArray.INSTANCE;
+                List<Object> results = new ArrayList<>();
+                queued.forEach(queuedCommand -> results.add(execute(queuedCommand)));
+                return results;
+            }
+            default:
+                if (session.queued != null) {
+                    session.queued.add(new ArrayList<>(command));
+                    return new Status("QUEUED");
+                }
+                return execute(command);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object execute(List<String> command) {
+        String name = command.get(0).toUpperCase(Locale.ROOT);
+        List<String> args = command.subList(1, command.size());
+        switch (name) {
+            case "PING":
+                return new Status("PONG");
+            case "SELECT":
+            case "CLIENT":
+                return new Status("OK");
+            case "GET":
+                return string(args.get(0));
+            case "GETDEL": {
+                String value = string(args.get(0));
+                remove(args.get(0));
+                return value;
+            }
+            case "MGET": {
+                List<Object> values = new ArrayList<>();
+                args.forEach(key -> values.add(string(key)));
+                return values;
+            }
+            case "SET":
+                return set(args);
+            case "DEL": {
+                long removed = args.stream().filter(key -> live(key) != null).peek(this::remove).count();
+                return removed;
+            }
+            case "SADD": {
+                Set<String> set = (Set<String>) data.computeIfAbsent(args.get(0), key -> new LinkedHashSet<String>());
+                changed(args.get(0));
+                return args.subList(1, args.size()).stream().filter(set::add).count();
+            }
+            case "SREM": {
+                Set<String> set = (Set<String>) live(args.get(0));
+                if (set == null) return 0L;
+                long removed = args.subList(1, args.size()).stream().filter(set::remove).count();
+                changed(args.get(0));
+                if (set.isEmpty()) remove(args.get(0));
+                return removed;
+            }
+            case "SMEMBERS": {
+                Set<String> set = (Set<String>) live(args.get(0));
+                return set == null ? List.of() : new ArrayList<Object>(set);
+            }
+            case "PEXPIRE": {
+                if (live(args.get(0)) == null) return 0L;
+                expireAt.put(args.get(0), System.currentTimeMillis() + Long.parseLong(args.get(1)));
+                changed(args.get(0));
+                return 1L;
+            }
+            default:
+                return new Error("ERR unknown command '" + name + "'");
+        }
+    }
+
+    private Object set(List<String> args) {
+        String key = args.get(0);
+        Long expiresAt = null;
+        boolean keepTtl = false;
+        boolean onlyIfPresent = false;
+        for (int i = 2; i < args.size(); i++) {
+            switch (args.get(i).toUpperCase(Locale.ROOT)) {
+                case "PX" -> expiresAt = System.currentTimeMillis() + Long.parseLong(args.get(++i));
+                case "EX" -> expiresAt = System.currentTimeMillis() + Long.parseLong(args.get(++i)) * 1000;
+                case "KEEPTTL" -> keepTtl = true;
+                case "XX" -> onlyIfPresent = true;
+                default -> {
+                    return new Error("ERR syntax error");
+                }
+            }
+        }
+        if (onlyIfPresent && live(key) == null) return null;
+        data.put(key, args.get(1));
+        changed(key);
+        if (expiresAt != null) expireAt.put(key, expiresAt);
+        else if (!keepTtl) expireAt.remove(key);
+        return new Status("OK");
+    }
+
+    private String string(String key) {
+        Object value = live(key);
+        return value instanceof String s ? s : null;
+    }
+
+    private Object live(String key) {
+        Long deadline = expireAt.get(key);
+        if (deadline != null && deadline <= System.currentTimeMillis()) {
+            remove(key);
+            return null;
+        }
+        return data.get(key);
+    }
+
+    private void remove(String key) {
+        data.remove(key);
+        expireAt.remove(key);
+        changed(key);
+    }
+
+    private void changed(String key) {
+        versions.merge(key, 1L, Long::sum);
+    }
+
+    private void write(OutputStream out, Object reply) throws IOException {
+        if (reply == null) {
+            out.write("$-1\r\n".getBytes(StandardCharsets.UTF_8));
+        } else if (reply == NullArray.INSTANCE) {
+            out.write("*-1\r\n".getBytes(StandardCharsets.UTF_8));
+        } else if (reply instanceof Status status) {
+            out.write(("+" + status.value() + "\r\n").getBytes(StandardCharsets.UTF_8));
+        } else if (reply instanceof Error error) {
+            out.write(("-" + error.value() + "\r\n").getBytes(StandardCharsets.UTF_8));
+        } else if (reply instanceof Long number) {
+            out.write((":" + number + "\r\n").getBytes(StandardCharsets.UTF_8));
+        } else if (reply instanceof String string) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            out.write(("$" + bytes.length + "\r\n").getBytes(StandardCharsets.UTF_8));
+            out.write(bytes);
+            out.write("\r\n".getBytes(StandardCharsets.UTF_8));
+        } else if (reply instanceof List<?> list) {
+            out.write(("*" + list.size() + "\r\n").getBytes(StandardCharsets.UTF_8));
+            for (Object element : list) {
+                write(out, element);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        executor.shutdownNow();
+    }
+
+    private static class Session {
+        private final Map<String, Long> watched = new HashMap<>();
+        private List<List<String>> queued; // MULTI 이후 null 이 아님
+    }
+
+    private enum NullArray {
+        INSTANCE
+    }
+
+    private record Status(String value) {
+    }
+
+    private record Error(String value) {
+    }
+}
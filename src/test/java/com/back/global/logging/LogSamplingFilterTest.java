@@ -0,0 +1,33 @@
+package com.back.global.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogSamplingFilterTest {
+
+    @Test
+    void samplesInfoByLongestPrefixAndAlwaysKeepsWarnings() {
+        LoggerContext context = new LoggerContext();
+        context.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.DEBUG);
+        LogSamplingFilter filter = new LogSamplingFilter(Map.of(
+                "com.back.global", 1.0,
+                "com.back.global.security", 0.0));
+
+        Logger security = context.getLogger("com.back.global.security.CustomAuthenticationFilter");
+        Logger jwt = context.getLogger("com.back.global.jwt.JwtUtil");
+        Logger lookalike = context.getLogger("com.back.global.securityx.Other");
+
+        assertThat(filter.decide(null, security, Level.INFO, "msg", null, null)).isEqualTo(FilterReply.DENY);
+        assertThat(filter.decide(null, security, Level.WARN, "msg", null, null)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.decide(null, jwt, Level.INFO, "msg", null, null)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.rateOf("com.back.global.securityx.Other")).isEqualTo(1.0);
+        assertThat(filter.decide(null, lookalike, Level.DEBUG, "msg", null, null)).isEqualTo(FilterReply.NEUTRAL);
+    }
+}
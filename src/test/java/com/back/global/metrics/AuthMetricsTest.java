@@ -0,0 +1,83 @@
+package com.back.global.metrics;
+
+import com.back.global.jwt.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "management.server.port=0")
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+class AuthMetricsTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @LocalServerPort
+    private int serverPort;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Test
+    void authOutcomesAreRecorded() {
+        UUID userId = UUID.randomUUID();
+        String valid = jwtUtil.generateAccessToken(userId, "metrics@example.com", "메트릭");
+        String expired = jwtUtil.generateAccessTokenWithExpiration(userId, "metrics@example.com", "메트릭", -1000);
+
+        get(serverPort, "/goals/today", null);
+        get(serverPort, "/goals/today", valid);
+        get(serverPort, "/goals/today", expired);
+        get(serverPort, "/goals/today", "not.a.token");
+
+        for (String outcome : new String[]{"missing", "ok", "expired", "invalid"}) {
+            assertThat(meterRegistry.get("auth.requests").tag("outcome", outcome).counter().count()).isPositive();
+        }
+        assertThat(meterRegistry.get("auth.token.verify").timers()).isNotEmpty();
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "accessToken").meters()).isNotEmpty();
+
+        // 관리 포트에서 Prometheus 형식으로 수집 가능
+        ResponseEntity<String> scrape = get(managementPort, "/actuator/prometheus", null);
+        assertThat(scrape.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(scrape.getBody())
+                .contains("auth_requests_total{application=\"back-java\",outcome=\"missing\"}")
+                .contains("auth_token_verify_seconds_bucket");
+    }
+
+    @Test
+    void actuatorIsServedOnlyOnManagementPort() {
+        assertThat(get(managementPort, "/actuator/health", null).getBody()).contains("\"status\":\"UP\"");
+
+        // 공개 포트에서는 메트릭을 내주지 않음
+        ResponseEntity<String> publicScrape = get(serverPort, "/actuator/prometheus", null);
+        assertThat(publicScrape.getStatusCode().is2xxSuccessful()).isFalse();
+        assertThat(publicScrape.getBody()).doesNotContain("auth_requests_total");
+    }
+
+    private ResponseEntity<String> get(int port, String path, String bearer) {
+        HttpHeaders headers = new HttpHeaders();
+        if (bearer != null) headers.setBearerAuth(bearer);
+        return restTemplate.exchange("http://localhost:" + port + path, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    }
+}
@@ -0,0 +1,32 @@
+package com.back.global.security;
+
+import org.junit.jupiter.api.Test;
+
+import static com.back.global.security.CustomOAuth2LoginSuccessHandler.allowedRedirectUrl;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CustomOAuth2LoginSuccessHandlerTest {
+
+    private static final String FRONT = "https://www.example.com";
+
+    @Test
+    void allowsOnlyFrontendRedirects() {
+        // 프론트엔드 기준 상대 경로, 같은 origin 절대 URL
+        assertThat(allowedRedirectUrl("/goals?tab=today", FRONT)).isEqualTo(FRONT + "/goals?tab=today");
+        assertThat(allowedRedirectUrl("https://www.example.com/me", FRONT)).isEqualTo("https://www.example.com/me");
+        assertThat(allowedRedirectUrl("https://www.example.com:443/me", FRONT)).isEqualTo("https://www.example.com:443/me");
+
+        // 지정 안 함(기본값), 다른 origin, 스킴 상대 URL, 역슬래시, 사용자 정보, 형식 오류
+        assertThat(allowedRedirectUrl(null, FRONT)).isNull();
+        assertThat(allowedRedirectUrl("/", FRONT)).isNull();
+        assertThat(allowedRedirectUrl("https://evil.com/me", FRONT)).isNull();
+        assertThat(allowedRedirectUrl("http://www.example.com/me", FRONT)).isNull();
+        assertThat(allowedRedirectUrl("https://www.example.com.evil.com/", FRONT)).isNull();
+        assertThat(allowedRedirectUrl("//evil.com/me", FRONT)).isNull();
+        assertThat(allowedRedirectUrl("/\\evil.com", FRONT)).isNull();
+        assertThat(allowedRedirectUrl("https://user@www.example.com/", FRONT)).isNull();
+        assertThat(allowedRedirectUrl("javascript:alert(1)", FRONT)).isNull();
+        assertThat(allowedRedirectUrl("goals", FRONT)).isNull();
+        assertThat(allowedRedirectUrl("/a b", FRONT)).isNull();
+    }
+}
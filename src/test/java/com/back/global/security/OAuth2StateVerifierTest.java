@@ -0,0 +1,41 @@
+package com.back.global.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OAuth2StateVerifierTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-token-generation-and-validation-purposes-only";
+
+    @Test
+    void rejectsTamperedExpiredAndReplayedState() {
+        OAuth2StateCodec codec = new OAuth2StateCodec(SECRET);
+        OAuth2StateVerifier verifier = new OAuth2StateVerifier(codec, 180, 1000);
+        Instant now = Instant.parse("2026-10-18T09:00:00Z");
+
+        String state = codec.encode("/goals?tab=today", now);
+        assertThat(Base64.getUrlDecoder().decode(state))
+                .hasSize(OAuth2StateCodec.HEADER_BYTES + "/goals?tab=today".length() + OAuth2StateCodec.MAC_BYTES);
+
+        // 한 번만 통과
+        assertThat(verifier.verify(state, now.plusSeconds(10))).isEqualTo("/goals?tab=today");
+        assertThat(verifier.verify(state, now.plusSeconds(11))).isNull();
+
+        // 서명 변조, 다른 키, 만료, 형식 오류
+        byte[] bytes = Base64.getUrlDecoder().decode(codec.encode("/", now));
+        bytes[OAuth2StateCodec.HEADER_BYTES] = '#';
+        assertThat(verifier.verify(Base64.getUrlEncoder().withoutPadding().encodeToString(bytes), now)).isNull();
+        assertThat(verifier.verify(new OAuth2StateCodec(SECRET + "-other").encode("/", now), now)).isNull();
+        assertThat(verifier.verify(codec.encode("/", now), now.plusSeconds(181))).isNull();
+        assertThat(verifier.verify("not-base64!", now)).isNull();
+        assertThat(verifier.verify("AQ", now)).isNull();
+
+        // 서로 다른 state 는 각각 통과
+        assertThat(verifier.verify(codec.encode("/", now), now)).isEqualTo("/");
+        assertThat(verifier.verify(codec.encode("/", now), now)).isEqualTo("/");
+    }
+}
@@ -0,0 +1,85 @@
+package com.back.global.security;
+
+import com.back.global.jwt.JwtUtil;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class StatelessSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private OAuth2AuthorizationRequestCookieRepository repository;
+
+    @Test
+    void oauthHandshakeLivesInEncryptedCookieAndNoSessionIsCreated() throws Exception {
+        MvcResult redirect = mockMvc.perform(get("/oauth2/authorization/google"))
+                .andExpect(status().is3xxRedirection())
+                .andReturn();
+        assertThat(redirect.getRequest().getSession(false)).isNull();
+
+        String state = URLDecoder.decode(UriComponentsBuilder.fromUriString(redirect.getResponse().getRedirectedUrl())
+                .build().getQueryParams().getFirst("state"), StandardCharsets.UTF_8);
+        String setCookie = redirect.getResponse().getHeader(HttpHeaders.SET_COOKIE);
+        assertThat(setCookie).startsWith(OAuth2AuthorizationRequestCookieRepository.COOKIE_NAME + "=")
+                .contains("HttpOnly", "SameSite=Lax");
+        String value = setCookie.substring(setCookie.indexOf('=') + 1, setCookie.indexOf(';'));
+        // 암호문이라 평문 필드가 보이지 않고, 자바 직렬화(약 2.5KB)보다 훨씬 작음
+        assertThat(value).hasSizeLessThan(400).doesNotContain("google");
+
+        // 콜백: 같은 state 면 복원, 변조/만료/다른 state 는 거부
+        OAuth2AuthorizationRequest restored = repository.loadAuthorizationRequest(callback(value, state));
+        assertThat(restored).isNotNull();
+        assertThat(restored.getState()).isEqualTo(state);
+        assertThat(restored.getClientId()).isEqualTo("test-google-client-id");
+        assertThat(restored.getAuthorizationUri()).isEqualTo("https://accounts.google.com/o/oauth2/v2/auth");
+        assertThat(restored.getRedirectUri()).isEqualTo("http://localhost:8080/login/oauth2/code/google");
+        assertThat(restored.getScopes()).containsExactly("profile");
+        assertThat(restored.<String>getAttribute("registration_id")).isEqualTo("google");
+
+        String tampered = (value.charAt(0) == 'A' ? 'B' : 'A') + value.substring(1);
+        assertThat(repository.loadAuthorizationRequest(callback(tampered, state))).isNull();
+        assertThat(repository.loadAuthorizationRequest(callback(value, "other-state"))).isNull();
+        assertThat(repository.decode(value, Instant.now().plusSeconds(3600))).isNull();
+
+        // JWT 요청도 세션을 만들지 않음
+        String token = jwtUtil.generateAccessToken(UUID.randomUUID(), "stateless@example.com", "무상태");
+        MvcResult api = mockMvc.perform(get("/user/auth/me").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat(api.getRequest().getSession(false)).isNull();
+    }
+
+    private static MockHttpServletRequest callback(String cookieValue, String state) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/login/oauth2/code/google");
+        request.setCookies(new Cookie(OAuth2AuthorizationRequestCookieRepository.COOKIE_NAME, cookieValue));
+        request.setParameter("state", state);
+        return request;
+    }
+}
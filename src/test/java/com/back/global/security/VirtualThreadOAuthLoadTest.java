@@ -0,0 +1,191 @@
+package com.back.global.security;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.back.domain.user.entity.User;
+import com.back.domain.user.service.UserAuthService;
+import com.back.global.metrics.AuthMetrics;
+import com.back.global.rsData.RsData;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 느린 OAuth 제공자(사용자 정보 응답 200ms)를 띄워 loadUser 가 동시에 몇 건까지 제공자를 기다리는지 비교한다.
+ * 플랫폼 스레드 풀은 풀 크기만큼만 동시에 대기할 수 있고, 가상 스레드는 요청 수만큼 대기한다.
+ * 소요 시간(wall-clock)은 CI 부하에 따라 흔들리므로 제공자가 관측한 최대 동시 요청 수로 검증한다.
+ */
+class VirtualThreadOAuthLoadTest {
+
+    private static final int PROVIDER_LATENCY_MS = 200;
+    private static final int CONCURRENT_LOGINS = 200;
+    private static final int PLATFORM_POOL_SIZE = 20;
+
+    private static final AtomicInteger inFlight = new AtomicInteger();
+    private static final AtomicInteger peakInFlight = new AtomicInteger();
+
+    private static HttpServer provider;
+    private static OAuth2HttpClientConfig.OAuth2HttpClient httpClient;
+    private static CustomOAuth2UserService userService;
+
+    private Level previousLogLevel;
+
+    @BeforeAll
+    static void startProvider() throws IOException {
+        provider = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        provider.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        provider.createContext("/userinfo", exchange -> {
+            peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(PROVIDER_LATENCY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            byte[] body = ("{\"sub\":\"" + UUID.randomUUID() + "\",\"name\":\"tester\",\"email\":\"tester@example.com\"}")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        provider.start();
+
+        UserAuthService userAuthService = mock(UserAuthService.class);
+        when(userAuthService.findOrCreateOAuthUser(anyString(), anyString(), anyString()))
+                .thenAnswer(invocation -> RsData.successOf(User.builder()
+                        .id(UUID.randomUUID())
+                        .oauthId(invocation.getArgument(0))
+                        .email(invocation.getArgument(1))
+                        .nickname(invocation.getArgument(2))
+                        .build()));
+
+        httpClient = OAuth2HttpClientConfig.OAuth2HttpClient.create(true, 3000, 5000);
+        userService = new CustomOAuth2UserService(userAuthService,
+                OAuth2HttpClientConfig.userInfoRestOperations(httpClient.requestFactory()),
+                new AuthMetrics(new SimpleMeterRegistry()));
+    }
+
+    @AfterAll
+    static void stopProvider() {
+        httpClient.close();
+        provider.stop(0);
+    }
+
+    // 요청마다 남기는 INFO 로그가 콘솔 I/O 경합을 만들지 않도록, 다른 테스트에는 영향 없게 되돌림
+    @BeforeEach
+    void quietUserServiceLog() {
+        Logger logger = (Logger) LoggerFactory.getLogger(CustomOAuth2UserService.class);
+        previousLogLevel = logger.getLevel();
+        logger.setLevel(Level.WARN);
+    }
+
+    @AfterEach
+    void restoreUserServiceLog() {
+        ((Logger) LoggerFactory.getLogger(CustomOAuth2UserService.class)).setLevel(previousLogLevel);
+    }
+
+    @Test
+    void virtualThreadsWaitBeyondPlatformPoolSize() throws Exception {
+        // 클래스 로딩 / keep-alive 커넥션 워밍업 (한 건 먼저 순차로, 이후 동시 요청)
+        runLogins(Executors.newSingleThreadExecutor(), 1);
+        runLogins(Executors.newVirtualThreadPerTaskExecutor(), CONCURRENT_LOGINS);
+
+        int platform = runLogins(Executors.newFixedThreadPool(PLATFORM_POOL_SIZE), CONCURRENT_LOGINS);
+
+        Path jfr = Files.createTempFile("pinned", ".jfr");
+        int virtual;
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ofMillis(20));
+            recording.start();
+            virtual = runLogins(Executors.newVirtualThreadPerTaskExecutor(), CONCURRENT_LOGINS);
+            recording.stop();
+            recording.dump(jfr);
+        }
+
+        List<RecordedEvent> pinned = RecordingFile.readAllEvents(jfr);
+        Files.deleteIfExists(jfr);
+
+        // 플랫폼 풀은 풀 크기에서 막히고, 가상 스레드는 풀 크기를 넘겨 동시에 대기
+        assertThat(platform).isLessThanOrEqualTo(PLATFORM_POOL_SIZE);
+        assertThat(virtual).isGreaterThan(PLATFORM_POOL_SIZE);
+        assertThat(pinned).as("loadUser 경로에서 carrier 스레드 고정").isEmpty();
+    }
+
+    // 가상 스레드가 모니터 안에서 블로킹 I/O를 하면 carrier 가 고정되므로 메인 코드에서 금지
+    @Test
+    void mainSourcesHaveNoSynchronizedSections() throws IOException {
+        Pattern monitor = Pattern.compile("^\\s*[^/*\\s].*\\bsynchronized\\b", Pattern.MULTILINE);
+        List<Path> offenders = new ArrayList<>();
+        try (Stream<Path> sources = Files.walk(Path.of("src/main/java"))) {
+            for (Path source : sources.filter(p -> p.toString().endsWith(".java")).toList()) {
+                if (monitor.matcher(Files.readString(source)).find()) {
+                    offenders.add(source);
+                }
+            }
+        }
+        assertThat(offenders).as("synchronized 대신 ReentrantLock 사용").isEmpty();
+    }
+
+    // 제공자가 관측한 최대 동시 요청 수를 반환
+    private int runLogins(ExecutorService executor, int count) throws Exception {
+        ClientRegistration registration = ClientRegistration.withRegistrationId("google")
+                .clientId("client")
+                .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+                .redirectUri("http://localhost/login/oauth2/code/google")
+                .authorizationUri("http://localhost/authorize")
+                .tokenUri("http://localhost/token")
+                .userInfoUri("http://localhost:" + provider.getAddress().getPort() + "/userinfo")
+                .userNameAttributeName("sub")
+                .build();
+        OAuth2AccessToken accessToken = new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, "token",
+                Instant.now(), Instant.now().plusSeconds(60));
+
+        peakInFlight.set(0);
+        try (executor) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                futures.add(executor.submit(() -> userService.loadUser(new OAuth2UserRequest(registration, accessToken))));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        return peakInFlight.get();
+    }
+}